@@ -0,0 +1,122 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EDIT_SPOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPERATING_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of tokenizing the arguments of an edit command, which recognizes the most prefixes.
+ *
+ * The inputs are:
+ * <ul>
+ *     <li>{@code REALISTIC}: an edit command as a user would type it.</li>
+ *     <li>{@code MANY_TAGS}: an edit command adding and removing a hundred tags.</li>
+ *     <li>{@code NEAR_MISSES}: a long value full of words that start like prefixes but are not prefixes.</li>
+ * </ul>
+ * {@code tokenizeWithIndexOf} finds every prefix with its own {@code String#indexOf} search, as the tokenizer
+ * did before it scanned with a trie, so it can be compared against {@code tokenize}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] EDIT_PREFIXES = {PREFIX_EDIT_SPOT, PREFIX_NAME, PREFIX_RATING,
+        PREFIX_OPERATING_HOURS, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_REMOVE_TAG, PREFIX_AMENITY, PREFIX_REMOVE_AMENITY};
+
+    /**
+     * The kinds of arguments tokenized.
+     */
+    public enum Input {
+        REALISTIC, MANY_TAGS, NEAR_MISSES
+    }
+
+    @Param({"REALISTIC", "MANY_TAGS", "NEAR_MISSES"})
+    private Input input;
+
+    private String argsString;
+
+    /**
+     * Builds the arguments string of {@code input}.
+     */
+    @Setup
+    public void buildArgsString() {
+        StringBuilder args = new StringBuilder(" spot/Central Library n/Central Library Level 5 r/4"
+                + " o/0900-2200, 1000-1800 a/NUS, 12 Kent Ridge Crescent");
+        switch (input) {
+        case REALISTIC:
+            args.append(" t/quiet t/cold rt/crowded m/wifi m/charger rm/food");
+            break;
+        case MANY_TAGS:
+            for (int i = 0; i < 100; i++) {
+                args.append(" t/tag").append(i).append(" rt/old").append(i);
+            }
+            break;
+        case NEAR_MISSES:
+            args.append(" a/");
+            for (int i = 0; i < 200; i++) {
+                args.append(" spot rt rm n r o a t m sp/ r/o");
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown input: " + input);
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(argsString, EDIT_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeWithIndexOf() {
+        List<int[]> positions = new ArrayList<>();
+        for (int p = 0; p < EDIT_PREFIXES.length; p++) {
+            String prefix = EDIT_PREFIXES[p].getPrefix();
+            int position = argsString.indexOf(" " + prefix);
+            while (position != -1) {
+                positions.add(new int[] {position + 1, p});
+                position = argsString.indexOf(" " + prefix, position + 1);
+            }
+        }
+        positions.sort((position1, position2) -> position1[0] - position2[0]);
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix prefix = new Prefix("");
+        int valueStart = 0;
+        for (int[] position : positions) {
+            argMultimap.put(prefix, argsString.substring(valueStart, position[0]).trim());
+            prefix = EDIT_PREFIXES[position[1]];
+            valueStart = position[0] + prefix.getPrefix().length();
+        }
+        argMultimap.put(prefix, argsString.substring(valueStart).trim());
+        return argMultimap;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.studyspot.Address;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.OperatingHours;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the cost of loading and saving a study tracker with {@value #STUDY_SPOT_COUNT} study spots
+ * in each {@link DataFileFormat}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StudyTrackerFormatBenchmark {
+
+    private static final int STUDY_SPOT_COUNT = 100_000;
+
+    @Param({"JSON", "BINARY"})
+    private DataFileFormat format;
+
+    private StudyTracker studyTracker;
+    private Path studyTrackerFile;
+    private StudyTrackerStorage storage;
+
+    /**
+     * Writes a study tracker file with {@value #STUDY_SPOT_COUNT} study spots in {@code format}.
+     */
+    @Setup(Level.Trial)
+    public void writeStudyTrackerFile() throws IOException {
+        studyTracker = new StudyTracker();
+        for (int i = 0; i < STUDY_SPOT_COUNT; i++) {
+            studyTracker.addStudySpot(new StudySpot(new Name("Study Spot " + i), Rating.of(String.valueOf(i % 6)),
+                    new OperatingHours("0900-2200, 1000-1800"), new Address("NUS, Central Library"),
+                    new StudiedHours(String.valueOf(i)), new Favourite(i % 10 == 0),
+                    new HashSet<>(Collections.singletonList(Tag.of("quiet"))),
+                    new HashSet<>(Collections.singletonList(Amenity.of("wifi")))));
+        }
+
+        studyTrackerFile = Files.createTempFile("studytracker-benchmark", "." + format.name().toLowerCase());
+        storage = format == DataFileFormat.BINARY
+                ? new BinaryStudyTrackerStorage(studyTrackerFile)
+                : new JsonStudyTrackerStorage(studyTrackerFile);
+        storage.saveStudyTracker(studyTracker);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteStudyTrackerFile() throws IOException {
+        Files.deleteIfExists(studyTrackerFile);
+        Files.deleteIfExists(FileUtil.getBackupPath(studyTrackerFile));
+    }
+
+    @Benchmark
+    public Object loadStudyTracker() throws DataConversionException, IOException {
+        return storage.readStudyTracker();
+    }
+
+    @Benchmark
+    public void saveStudyTracker() throws IOException {
+        storage.saveStudyTracker(studyTracker);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.studyspot.Address;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.OperatingHours;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the per-record cost of loading a study tracker file with {@value #STUDY_SPOT_COUNT} study spots,
+ * and of validating the fields of one record.
+ *
+ * {@code validateRecordWithStringMatches} validates with {@code String#matches}, as the value classes did before
+ * their patterns were precompiled, so it can be compared against {@code validateRecordWithValueClasses}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StudyTrackerLoadBenchmark {
+
+    private static final int STUDY_SPOT_COUNT = 100_000;
+
+    private static final String NAME = "Central Library 12345";
+    private static final String RATING = "4";
+    private static final String OPERATING_HOURS = "0900-2200, 1000-1800";
+    private static final String ADDRESS = "NUS, Central Library";
+    private static final String STUDIED_HOURS = "120";
+    private static final String TAG = "quiet";
+
+    private Path studyTrackerFile;
+    private JsonStudyTrackerStorage storage;
+
+    /**
+     * Writes a study tracker file with {@value #STUDY_SPOT_COUNT} study spots.
+     */
+    @Setup(Level.Trial)
+    public void writeStudyTrackerFile() throws IOException {
+        StudyTracker studyTracker = new StudyTracker();
+        for (int i = 0; i < STUDY_SPOT_COUNT; i++) {
+            studyTracker.addStudySpot(new StudySpot(new Name("Study Spot " + i), Rating.of(String.valueOf(i % 6)),
+                    new OperatingHours(OPERATING_HOURS), new Address(ADDRESS), new StudiedHours(String.valueOf(i)),
+                    new Favourite(i % 10 == 0), new HashSet<>(Collections.singletonList(Tag.of(TAG))),
+                    new HashSet<>(Collections.singletonList(Amenity.of("wifi")))));
+        }
+
+        studyTrackerFile = Files.createTempFile("studytracker-benchmark", ".json");
+        storage = new JsonStudyTrackerStorage(studyTrackerFile);
+        storage.saveStudyTracker(studyTracker);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteStudyTrackerFile() throws IOException {
+        Files.deleteIfExists(studyTrackerFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STUDY_SPOT_COUNT)
+    public Object loadStudyTracker() throws DataConversionException {
+        return storage.readStudyTracker();
+    }
+
+    @Benchmark
+    public void validateRecordWithStringMatches(Blackhole blackhole) {
+        blackhole.consume(NAME.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(RATING.matches(Rating.VALIDATION_REGEX));
+        blackhole.consume(OPERATING_HOURS.matches("([01][0-9]|2[0-3])[0-5][0-9]-([01][0-9]|2[0-3])[0-5][0-9], "
+                + "([01][0-9]|2[0-3])[0-5][0-9]-([01][0-9]|2[0-3])[0-5][0-9]"));
+        blackhole.consume(ADDRESS.matches(Address.VALIDATION_REGEX));
+        blackhole.consume(STUDIED_HOURS.matches(StudiedHours.VALIDATION_REGEX));
+        blackhole.consume(TAG.matches(Tag.VALIDATION_REGEX));
+    }
+
+    @Benchmark
+    public void validateRecordWithValueClasses(Blackhole blackhole) {
+        blackhole.consume(Name.isValidName(NAME));
+        blackhole.consume(Rating.isValidRating(RATING));
+        blackhole.consume(OperatingHours.isValidOperatingHours(OPERATING_HOURS));
+        blackhole.consume(Address.isValidAddress(ADDRESS));
+        blackhole.consume(StudiedHours.isValidLoggedHours(STUDIED_HOURS));
+        blackhole.consume(Tag.isValidTagName(TAG));
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address;
+
+import static seedu.address.storage.JournaledStudyTrackerStorage.getJournalFilePath;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryStudyTrackerStorage;
+import seedu.address.storage.JournaledStudyTrackerStorage;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StudyTrackerFormatConverter;
+import seedu.address.storage.StudyTrackerStorage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, the user prefs and the study tracker the application starts with.
+ * Shared by the GUI in {@link MainApp} and the command line in {@link HeadlessMain}, so it does not use JavaFX.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {} // prevents instantiation
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will reset user prefs to default");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the study tracker data file at the path and in the format given in {@code userPrefs}.
+     */
+    public static StudyTrackerStorage initStudyTrackerStorage(ReadOnlyUserPrefs userPrefs, Config config) {
+        Path filePath = userPrefs.getStudyTrackerFilePath();
+        switch (userPrefs.getStudyTrackerFileFormat()) {
+        case BINARY:
+            return new BinaryStudyTrackerStorage(filePath);
+        case PLAIN_JSON:
+            JsonStudyTrackerStorage plainStorage = new JsonStudyTrackerStorage(filePath, config.isCompactDataFile());
+            mergeJournal(plainStorage);
+            return plainStorage;
+        case JSON:
+        default:
+            return new JournaledStudyTrackerStorage(filePath, JournaledStudyTrackerStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    config.isCompactDataFile());
+        }
+    }
+
+    /**
+     * Writes the changes kept in the journal of {@code storage}'s data file, which is left behind if the data file
+     * was used in the JSON format before, into the data file itself, and deletes the journal.
+     * Without this, the changes would be lost, as the journal is not read in the plain JSON format.
+     */
+    private static void mergeJournal(JsonStudyTrackerStorage storage) {
+        Path filePath = storage.getStudyTrackerFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        try {
+            StudyTrackerFormatConverter.convert(new JournaledStudyTrackerStorage(filePath), storage);
+            Files.delete(journalFilePath);
+            logger.info("Merged the journal " + journalFilePath + " into the data file");
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not merge the journal " + journalFilePath + " into the data file. "
+                    + "Will be starting with the data file alone: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s study tracker. <br>
+     * The data from the sample study tracker will be used instead if {@code storage}'s study tracker is not found,
+     * The data file without its journal of changes, or else the backup of the data file, will be used instead
+     * if it is not in the correct format,
+     * or an empty study tracker will be used instead if errors occur when reading {@code storage}'s study tracker.
+     */
+    public static ReadOnlyStudyTracker readInitialStudyTracker(Storage storage) {
+        Optional<ReadOnlyStudyTracker> studyTrackerOptional;
+        ReadOnlyStudyTracker initialData;
+        try {
+            studyTrackerOptional = storage.readStudyTracker();
+            if (!studyTrackerOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample StudyTracker");
+            }
+            initialData = studyTrackerOptional.orElseGet(SampleDataUtil::getSampleStudyTracker);
+        } catch (DataConversionException e) {
+            initialData = readStudyTrackerSnapshot(storage)
+                    .or(() -> readBackupStudyTracker(storage))
+                    .orElseGet(() -> {
+                        logger.warning("Backup data file cannot be used. Will be starting with an empty StudyTracker");
+                        return new StudyTracker();
+                    });
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty StudyTracker");
+            initialData = new StudyTracker();
+        }
+
+        return initialData;
+    }
+
+    /**
+     * Returns the study tracker kept in {@code storage}'s data file without its journal of changes,
+     * if the data file can be read on its own.
+     */
+    private static Optional<ReadOnlyStudyTracker> readStudyTrackerSnapshot(Storage storage) {
+        Path filePath = storage.getStudyTrackerFilePath();
+        try {
+            Optional<ReadOnlyStudyTracker> snapshot = storage.readStudyTrackerSnapshot(filePath);
+            if (snapshot.isPresent()) {
+                logger.warning("Journal of the data file not in the correct format. Will be starting with the data "
+                        + "file alone, dropping the changes in the journal " + getJournalFilePath(filePath));
+            }
+            return snapshot;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Data file not in the correct format. Will be starting with the backup data file");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the study tracker kept in the backup of {@code storage}'s data file, if it exists and can be read.
+     * Backups have no journal, so only the backup file itself is read.
+     */
+    private static Optional<ReadOnlyStudyTracker> readBackupStudyTracker(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupPath(storage.getStudyTrackerFilePath());
+        try {
+            return storage.readStudyTrackerSnapshot(backupFilePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading from the backup file " + backupFilePath + ": "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+}
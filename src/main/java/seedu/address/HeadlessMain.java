@@ -0,0 +1,169 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without its GUI, for scripts and load tests.
+ * The JavaFX toolkit is never started.
+ *
+ * Can be run with {@code [--config=CONFIG_FILE] [COMMAND_FILE]} as arguments, e.g.
+ * {@code java -cp studytracker.jar seedu.address.HeadlessMain commands.txt}.
+ * The commands in {@code COMMAND_FILE}, or read from standard input if it is not given, are executed one per line.
+ * The feedback of each command is written to standard output and the error of each failed command to standard error.
+ * Exits with status 1 if any command failed.
+ * Logs are written only to the log file.
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--config=CONFIG_FILE] [COMMAND_FILE]\n"
+            + "where the commands are read from standard input if COMMAND_FILE is not given";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+
+    private static final String CONFIG_OPTION = "--config=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private final Logic logic;
+
+    public HeadlessMain(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes the commands read from {@code input}, one per line, until it ends or a command exits the application.
+     * The feedback of each command is written to {@code output}, and the error of each failed command or save
+     * to {@code errors}.
+     * Both are flushed only before waiting for more input, so that commands typed in get their feedback at once,
+     * while commands piped in are not slowed down by a flush after each of them.
+     *
+     * Pending saves are written before returning, even if reading {@code input} fails.
+     *
+     * @return the number of commands that failed.
+     */
+    public int run(BufferedReader input, PrintWriter output, PrintWriter errors) throws IOException {
+        requireNonNull(input);
+        requireNonNull(output);
+        requireNonNull(errors);
+        logic.setSaveFailureHandler(errors::println);
+
+        int failedCount = 0;
+        int lineNumber = 0;
+        String line;
+        try {
+            while ((line = readLine(input, output, errors)) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    CommandResult commandResult = logic.execute(line);
+                    output.println(commandResult.getFeedbackToUser());
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    errors.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                    failedCount++;
+                }
+            }
+        } finally {
+            // the commands executed before input failed are saved too
+            logic.flushPendingSaves();
+            output.flush();
+            errors.flush();
+        }
+        return failedCount;
+    }
+
+    /**
+     * Reads the next line of {@code input}, flushing {@code output} and {@code errors} first if it would block.
+     */
+    private static String readLine(BufferedReader input, PrintWriter output, PrintWriter errors) throws IOException {
+        if (!input.ready()) {
+            output.flush();
+            errors.flush();
+        }
+        return input.readLine();
+    }
+
+    /**
+     * Returns the logic of the study tracker set up from the config file at {@code configFilePath},
+     * or from the default config file if {@code configFilePath} is null.
+     * Unlike the GUI, the study tracker is read before returning, as there is nothing to show in the meantime.
+     */
+    static Logic initLogic(Path configFilePath) {
+        Config config = AppInitializer.initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(AppInitializer.initStudyTrackerStorage(userPrefs, config),
+                userPrefsStorage);
+
+        LogsCenter.init(config);
+
+        Model model = new ModelManager(AppInitializer.readInitialStudyTracker(storage), userPrefs);
+        return new LogicManager(model, storage);
+    }
+
+    public static void main(String[] args) {
+        // standard error is left to the errors of the commands, so logs only go to the log file
+        LogsCenter.setConsoleLogLevel(Level.OFF);
+
+        Path configFilePath = null;
+        Path commandFilePath = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg.substring(CONFIG_OPTION.length()))) {
+                configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (commandFilePath == null && !arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg)) {
+                commandFilePath = Paths.get(arg);
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(1);
+            }
+        }
+
+        logger.info("=========================[ Running StudyTracker headless ]=========================");
+        Logic logic = initLogic(configFilePath);
+        PrintWriter output = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        PrintWriter errors = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.err)));
+        try (BufferedReader input = commandFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(commandFilePath)) {
+            int failedCount = new HeadlessMain(logic).run(input, output, errors);
+            System.exit(failedCount == 0 ? 0 : 1);
+        } catch (IOException ioe) {
+            System.err.println(ioe);
+            System.exit(1);
+        }
+    }
+}
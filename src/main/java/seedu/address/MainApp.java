@@ -1,28 +1,23 @@
 package seedu.address;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyStudyTracker;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.StudyTracker;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonStudyTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,134 +41,56 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private CompletableFuture<ReadOnlyStudyTracker> studyTrackerLoad;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing StudyTracker ]=============================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudyTrackerStorage studyTrackerStorage = new JsonStudyTrackerStorage(userPrefs.getStudyTrackerFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        StudyTrackerStorage studyTrackerStorage = AppInitializer.initStudyTrackerStorage(userPrefs, config);
         storage = new StorageManager(studyTrackerStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The study tracker is read in the background so that the window shows without waiting for it
+        studyTrackerLoad = CompletableFuture.supplyAsync(() -> AppInitializer.readInitialStudyTracker(storage))
+                .exceptionally(e -> {
+                    logger.severe("Problem while loading the data file. Will be starting with an empty StudyTracker: "
+                            + StringUtil.getDetails(e));
+                    return new StudyTracker();
+                });
+        model = new ModelManager(new StudyTracker(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, false);
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s study tracker and {@code userPrefs}. <br>
-     * The data from the sample study tracker will be used instead if {@code storage}'s study tracker is not found,
-     * or an empty study tracker will be used instead if errors occur when reading {@code storage}'s study tracker.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyStudyTracker> studyTrackerOptional;
-        ReadOnlyStudyTracker initialData;
-        try {
-            studyTrackerOptional = storage.readStudyTracker();
-            if (!studyTrackerOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample StudyTracker");
-            }
-            initialData = studyTrackerOptional.orElseGet(SampleDataUtil::getSampleStudyTracker);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty StudyTracker");
-            initialData = new StudyTracker();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty StudyTracker");
-            initialData = new StudyTracker();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will reset user prefs to default");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting StudyTracker " + MainApp.VERSION);
         ui.start(primaryStage);
+        studyTrackerLoad.thenAccept(initialData -> Platform.runLater(() -> {
+            logger.info("Study tracker loaded");
+            logic.setLoadedStudyTracker(initialData);
+            ui.handleStudyTrackerLoaded();
+        }));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Study Tracker ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
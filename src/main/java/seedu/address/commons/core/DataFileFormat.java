@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the study tracker data file can be stored in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, with recent changes kept in a journal next to the file. */
+    JSON,
+    /** Human-readable JSON without a journal, rewritten as a whole on every save. */
+    PLAIN_JSON,
+    /** Compact binary snapshots, which are faster to load and save but cannot be edited by hand. */
+    BINARY
+}
@@ -35,6 +35,17 @@ public class LogsCenter {
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Sets the level of the messages logged to the console, which is shared by all loggers.
+     * Messages are still logged to the {@code .log} file at the current logging level.
+     */
+    public static void setConsoleLogLevel(Level level) {
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name.
      */
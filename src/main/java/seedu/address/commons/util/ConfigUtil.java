@@ -16,8 +16,12 @@ public class ConfigUtil {
         return JsonUtil.readJsonFile(configFilePath, Config.class);
     }
 
+    /**
+     * Saves {@code config} to {@code configFilePath}.
+     * The file is only rewritten if its content would change.
+     */
     public static void saveConfig(Config config, Path configFilePath) throws IOException {
-        JsonUtil.saveJsonFile(config, configFilePath);
+        JsonUtil.saveJsonFileIfChanged(config, configFilePath);
     }
 
 }
@@ -1,10 +1,23 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 /**
  * Writes and reads files
@@ -12,6 +25,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +95,136 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file holds either all of its old content or all of
+     * {@code content}, even if the application stops while writing.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, byte[])
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, such that the file holds either all of its old content or all of
+     * {@code content}, even if the application stops while writing.
+     *
+     * @see #writeToFileAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, byte[] content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes given bytes to a file like {@link #writeToFileAtomically(Path, byte[])}, unless the file already
+     * holds exactly {@code content}.
+     *
+     * @return true if the file was written.
+     */
+    public static boolean writeToFileIfChanged(Path file, byte[] content) throws IOException {
+        if (hasContent(file, content)) {
+            return false;
+        }
+
+        writeToFileAtomically(file, content);
+        return true;
+    }
+
+    /**
+     * Returns true if {@code file} exists and holds exactly {@code content}.
+     * A file of a different size is not read.
+     */
+    public static boolean hasContent(Path file, byte[] content) throws IOException {
+        return isFileExists(file) && Files.size(file) == content.length
+                && Arrays.equals(Files.readAllBytes(file), content);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, such that the file holds either all of
+     * its old content or all of the new content, even if the application stops while writing.
+     * The content is streamed through a buffer to a temporary file next to {@code file} and forced to the disk,
+     * and the temporary file is then moved over {@code file} in a single step, which is in turn forced to the disk
+     * where the file system allows it. The temporary file is deleted if the content cannot be written.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tempFile, file, REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ioe) {
+                e.addSuppressed(ioe);
+            }
+            throw e;
+        }
+
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it is not lost if the
+     * system stops. Does nothing on file systems that cannot open a directory, such as those of Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // the file system does not support forcing directories, so the move is as durable as it can be
+        }
+    }
+
+    /**
+     * Returns the path at which {@link #backUp(Path)} keeps the previous content of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Keeps the current content of {@code file} at its backup path, replacing the previous backup.
+     * Does nothing if {@code file} does not exist.
+     * The backup is a hard link where possible, so it costs no copying as long as {@code file} is only
+     * ever replaced through {@link #writeToFileAtomically(Path, byte[])}.
+     */
+    public static void backUp(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the content to {@code out}, which must be left open.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes equal immutable values so that they share one instance.
+ * Instances are held weakly, so a value is dropped from the pool once nothing else refers to it.
+ *
+ * @param <T> the type of value interned; it must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the pooled instance equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of values in the pool, which may include values that are about to be dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -23,6 +25,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if the study tracker has been read from storage.
+     * Until then, the app runs on an empty study tracker and should not execute commands.
+     */
+    boolean isStudyTrackerLoaded();
+
+    /**
+     * Replaces the empty study tracker the app started with by {@code studyTracker}, which was read from storage,
+     * without saving it back to storage.
+     */
+    void setLoadedStudyTracker(ReadOnlyStudyTracker studyTracker);
+
+    /**
+     * Sets the handler that is given the error message of every failed save.
+     * Data is saved in the background after a command changes it, so the handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until the data changed by all executed commands has been saved, or has failed to save.
+     * Data that failed to save is saved once more before returning.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the StudyTracker.
      *
@@ -42,9 +68,14 @@ public interface Logic {
     ObservableList<StudySpot> getFullList();
 
     /**
-     * Returns an unmodifiable view of the top 5 studied spots, based off hours
+     * Returns an unmodifiable view of the most studied spots, based off hours
+     */
+    ObservableList<StudySpot> getTopStudiedStudySpotList();
+
+    /**
+     * Returns the total hours studied across all study spots
      */
-    ObservableList<StudySpot> getTopFiveStudySpotList();
+    ReadOnlyLongProperty totalStudiedHoursProperty();
 
     /**
      * Returns the user prefs' study tracker file path.
@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.studyspot.StudySpot;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -25,16 +29,39 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final StudyTrackerParser studyTrackerParser;
 
+    private long savedStudyTrackerVersion;
+    private long savedUserPrefsVersion;
+    private boolean isStudyTrackerLoaded;
+    private volatile boolean hasSaveFailed;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isStudyTrackerLoaded} is false, the study tracker of {@code model} is only a placeholder
+     * until {@link #setLoadedStudyTracker(ReadOnlyStudyTracker)} is called.
+     */
+    public LogicManager(Model model, Storage storage, boolean isStudyTrackerLoaded) {
         this.model = model;
-        this.storage = storage;
+        this.isStudyTrackerLoaded = isStudyTrackerLoaded;
         studyTrackerParser = new StudyTrackerParser();
+        saver = new WriteBehindSaver(storage);
+        saver.setFailureHandler(ioe -> {
+            hasSaveFailed = true;
+            saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+        });
+
+        savedStudyTrackerVersion = model.getStudyTrackerVersion();
+        savedUserPrefsVersion = model.getUserPrefsVersion();
     }
 
     @Override
@@ -42,19 +69,65 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = studyTrackerParser.parseCommand(commandText, model.getUserPrefs().getUserAliases());
+        Command command = studyTrackerParser.parseCommand(commandText, model.getUserPrefs().getAliasRegistry());
         commandResult = command.execute(model);
 
-        try {
-            storage.saveStudyTracker(model.getStudyTracker());
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+        requestSaveIfChanged();
 
         return commandResult;
     }
 
+    /**
+     * Schedules a save of the study tracker and of the user prefs if the command changed them,
+     * or of both if an earlier save failed, so that the data that failed to save is written again.
+     * Commands that only read data never reach the disk otherwise.
+     */
+    private void requestSaveIfChanged() {
+        boolean isRetry = hasSaveFailed;
+        hasSaveFailed = false;
+
+        long studyTrackerVersion = model.getStudyTrackerVersion();
+        if (isRetry || studyTrackerVersion != savedStudyTrackerVersion) {
+            saver.requestStudyTrackerSave(model.getStudyTracker());
+            savedStudyTrackerVersion = studyTrackerVersion;
+        }
+
+        long userPrefsVersion = model.getUserPrefsVersion();
+        if (isRetry || userPrefsVersion != savedUserPrefsVersion) {
+            saver.requestUserPrefsSave(model.getUserPrefs());
+            savedUserPrefsVersion = userPrefsVersion;
+        }
+    }
+
+    @Override
+    public boolean isStudyTrackerLoaded() {
+        return isStudyTrackerLoaded;
+    }
+
+    @Override
+    public void setLoadedStudyTracker(ReadOnlyStudyTracker studyTracker) {
+        requireNonNull(studyTracker);
+        model.setStudyTracker(studyTracker);
+        // the data was just read from storage, so there is nothing to save
+        savedStudyTrackerVersion = model.getStudyTrackerVersion();
+        isStudyTrackerLoaded = true;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        saver.flush();
+        if (hasSaveFailed) {
+            requestSaveIfChanged();
+            saver.flush();
+        }
+    }
+
     @Override
     public ReadOnlyStudyTracker getStudyTracker() {
         return model.getStudyTracker();
@@ -91,7 +164,12 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<StudySpot> getTopFiveStudySpotList() {
-        return model.getTopFiveStudySpotList();
+    public ObservableList<StudySpot> getTopStudiedStudySpotList() {
+        return model.getTopStudiedStudySpotList();
+    }
+
+    @Override
+    public ReadOnlyLongProperty totalStudiedHoursProperty() {
+        return model.totalStudiedHoursProperty();
     }
 }
@@ -58,6 +58,13 @@ public class AliasCommand extends Command {
         }
     }
 
+    /**
+     * Returns the {@code Alias} set by this command, or null if it is a "show" type.
+     */
+    public Alias getAlias() {
+        return alias;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         if (this.isShowType) {
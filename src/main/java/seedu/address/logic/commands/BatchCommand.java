@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandDescriptor;
+import seedu.address.logic.parser.StudyTrackerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasRegistry;
+
+/**
+ * Executes the commands in a file, one per line, as a single change to the study tracker and the user prefs.
+ * Every line is parsed before any command is executed, and the commands are executed on a copy of the data,
+ * which replaces the data of the model only if all of them succeed.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes the commands in a file, one per line. "
+            + "Either all of them are applied, or none is.\n"
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "Only commands that change data can be used, and aliases set in the file "
+            + "cannot be used by its later lines.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/spots.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s) from %2$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINES = "Nothing was changed, as %1$d line(s) of %2$s are invalid:%3$s";
+    public static final String MESSAGE_FAILED_LINE = "Nothing was changed, as a command of %1$s failed:%2$s";
+    public static final String MESSAGE_LINE_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch cannot execute another batch";
+    public static final String MESSAGE_READ_ONLY_COMMAND = "%1$s does not change any data, "
+            + "so a batch cannot execute it";
+    public static final String MESSAGE_BATCH_ALIAS = "%1$s is an alias set by this batch, "
+            + "so it can only be used once the batch has run";
+
+    private final Path batchFilePath;
+
+    /**
+     * Creates a BatchCommand to execute the commands in the file at {@code batchFilePath}.
+     */
+    public BatchCommand(Path batchFilePath) {
+        requireNonNull(batchFilePath);
+        this.batchFilePath = batchFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(batchFilePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, batchFilePath, ioe), ioe);
+        }
+
+        Command[] commands = parseLines(lines, model.getUserPrefs().getAliasRegistry());
+
+        Model stagingModel = new ModelManager(model.getStudyTracker(), model.getUserPrefs());
+        long initialStudyTrackerVersion = stagingModel.getStudyTrackerVersion();
+        long initialUserPrefsVersion = stagingModel.getUserPrefsVersion();
+        int executedCount = 0;
+        for (int i = 0; i < commands.length; i++) {
+            if (commands[i] == null) {
+                continue;
+            }
+            try {
+                commands[i].execute(stagingModel);
+            } catch (CommandException ce) {
+                throw new CommandException(String.format(MESSAGE_FAILED_LINE, batchFilePath,
+                        String.format(MESSAGE_LINE_ERROR, i + 1, ce.getMessage())), ce);
+            }
+            executedCount++;
+        }
+
+        // every command succeeded, so the changes are applied to the model at once
+        if (stagingModel.getStudyTrackerVersion() != initialStudyTrackerVersion) {
+            model.setStudyTracker(stagingModel.getStudyTracker());
+        }
+        if (stagingModel.getUserPrefsVersion() != initialUserPrefsVersion) {
+            model.setUserPrefs(stagingModel.getUserPrefs());
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount, batchFilePath));
+    }
+
+    /**
+     * Parses every line of the batch into its command, with the aliases in {@code aliases}.
+     * Blank lines and comments are parsed to null.
+     * Commands that do not change any data are rejected, since their results would be discarded along with the copy
+     * of the data, and so are aliases set by earlier lines, since they are not in effect until the batch has run.
+     *
+     * @throws CommandException listing every line that could not be parsed.
+     */
+    private Command[] parseLines(List<String> lines, AliasRegistry aliases) throws CommandException {
+        StudyTrackerParser parser = new StudyTrackerParser();
+        Command[] commands = new Command[lines.size()];
+        Set<String> batchAliases = new HashSet<>();
+        StringBuilder errors = new StringBuilder();
+        int errorCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                String commandWordOrAlias = line.split("\\s+", 2)[0];
+                if (batchAliases.contains(commandWordOrAlias)) {
+                    throw new ParseException(String.format(MESSAGE_BATCH_ALIAS, commandWordOrAlias));
+                }
+                CommandDescriptor descriptor = parser.parseCommandDescriptor(line, aliases);
+                if (!descriptor.isMutating()) {
+                    throw new ParseException(String.format(MESSAGE_READ_ONLY_COMMAND, descriptor.getCommandWord()));
+                }
+
+                commands[i] = parser.parseCommand(line, aliases);
+                if (commands[i] instanceof BatchCommand) {
+                    throw new ParseException(MESSAGE_NESTED_BATCH);
+                }
+                if (commands[i] instanceof AliasCommand) {
+                    Alias alias = ((AliasCommand) commands[i]).getAlias();
+                    if (alias != null) {
+                        batchAliases.add(alias.getUserAlias());
+                    }
+                }
+            } catch (ParseException pe) {
+                errors.append(String.format(MESSAGE_LINE_ERROR, i + 1, pe.getMessage()));
+                errorCount++;
+            }
+        }
+
+        if (errorCount > 0) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINES, errorCount, batchFilePath, errors));
+        }
+        return commands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && batchFilePath.equals(((BatchCommand) other).batchFilePath)); // state check
+    }
+}
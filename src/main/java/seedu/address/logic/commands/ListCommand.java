@@ -1,11 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_FAVOURITES;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -29,56 +36,86 @@ public class ListCommand extends Command {
             + "The -t flag lists study spots that match given tags\n"
             + "The -m flag lists study spots that match given amenities\n"
             + "The -r flag lists study spots that match given rating\n"
-            + "Parameters: [-f] [-t t/TAG...] [-m m/AMENITY...] [-r r/RATING]\n"
+            + "The -o flag lists study spots that are open now, or at the given time today\n"
+            + "Parameters: [-f] [-t t/TAG...] [-m m/AMENITY...] [-r r/RATING] [-o [o/HHmm]]\n"
             + "Example: " + COMMAND_WORD;
     public static final String FLAG_FAVOURITES = "f";
     public static final String FLAG_TAGS = "t";
     public static final String FLAG_AMENITIES = "m";
     public static final String FLAG_RATING = "r";
+    public static final String FLAG_OPEN = "o";
     public static final List<String> FLAG_LIST = new ArrayList<>(Arrays.asList(FLAG_FAVOURITES , FLAG_TAGS,
-            FLAG_AMENITIES, FLAG_RATING));
+            FLAG_AMENITIES, FLAG_RATING, FLAG_OPEN));
 
     public static final String MESSAGE_CONSTRAINTS = "Only valid flags are accepted as extra parameters";
     public static final String MESSAGE_SUCCESS = "Listed all study spots";
     public static final String MESSAGE_MISSING_TAGS = "Please enter a tag. e.g. t/cold";
     public static final String MESSAGE_MISSING_AMENITIES = "Please enter an amenity. e.g. m/wifi";
     public static final String MESSAGE_MISSING_RATING = "Please enter a rating. e.g. r/5";
-    public static final String MESSAGE_UNKNOWN_FLAGS = "Unknown flags given. Valid flags: -f -t -m -r";
+    public static final String MESSAGE_UNKNOWN_FLAGS = "Unknown flags given. Valid flags: -f -t -m -r -o";
+
+    private static final DateTimeFormatter OPEN_AT_FORMATTER = DateTimeFormatter.ofPattern("EEEE HHmm", Locale.ENGLISH);
 
-    private final Predicate<StudySpot> predicate;
     private final boolean isFavFlagPresent;
     private final Set<Tag> tags;
     private final Set<Amenity> amenities;
     private final Rating rating;
+    private final LocalDateTime openAt;
 
     /**
-     * Creates a ListCommand.
-     * @param predicate Predicate that filters the study spots.
+     * Creates a ListCommand that filters study spots by the given flags.
      * @param isFavFlagPresent Tracks if ListCommand lists favourites.
      * @param tags List of tags that study spots are being filtered by.
      */
-    public ListCommand(Predicate<StudySpot> predicate, boolean isFavFlagPresent, Set<Tag> tags,
-                       Set<Amenity> amenities, Rating rating) {
-        this.predicate = predicate;
+    public ListCommand(boolean isFavFlagPresent, Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        this(isFavFlagPresent, tags, amenities, rating, null);
+    }
+
+    /**
+     * Creates a ListCommand that filters study spots by the given flags, keeping only those open at {@code openAt}.
+     * @param openAt Date and time that study spots must be open at, or null to not filter by operating hours.
+     */
+    public ListCommand(boolean isFavFlagPresent, Set<Tag> tags, Set<Amenity> amenities, Rating rating,
+                       LocalDateTime openAt) {
         this.isFavFlagPresent = isFavFlagPresent;
         this.tags = tags;
         this.amenities = amenities;
         this.rating = rating;
+        this.openAt = openAt;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudySpotList(predicate);
+        model.updateFilteredStudySpotList(createFilter(model));
         StringBuilder sb = new StringBuilder();
         sb.append(MESSAGE_SUCCESS);
         String msg = getFilterMessage(isFavFlagPresent, tags, amenities, rating);
         if (!msg.isBlank()) {
             sb.append(msg);
         }
+        if (openAt != null) {
+            sb.append(" open at: ").append(openAt.format(OPEN_AT_FORMATTER));
+        }
         return new CommandResult(sb.toString());
     }
 
+    /**
+     * Returns a predicate for the flags of this command, answering attribute filters from the model's index.
+     */
+    private Predicate<StudySpot> createFilter(Model model) {
+        Predicate<StudySpot> filter = isFavFlagPresent ? PREDICATE_SHOW_FAVOURITES : PREDICATE_SHOW_ALL_STUDYSPOTS;
+        boolean hasTags = tags != null && !tags.isEmpty();
+        boolean hasAmenities = amenities != null && !amenities.isEmpty();
+        if (hasTags || hasAmenities || rating != null) {
+            filter = filter.and(model.getStudySpotAttributeFilter(tags, amenities, rating));
+        }
+        if (openAt != null) {
+            filter = filter.and(isOpenAt(openAt.getDayOfWeek(), openAt.toLocalTime()));
+        }
+        return filter;
+    }
+
     /**
      * Returns the string to be printed containing the filter currently set.
      * @param isFavFlag
@@ -127,46 +164,16 @@ public class ListCommand extends Command {
         return (rating != null) ? Optional.of(rating) : Optional.empty();
     }
 
-    /**
-     * Returns a Predicate that checks if a studySpot contains the tag queried.
-     * @param queryTag
-     */
-    public static Predicate<StudySpot> containsTag(Tag queryTag) {
-        Predicate<StudySpot> studySpotContainTag = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getTags().contains(queryTag);
-            }
-        };
-        return studySpotContainTag;
-    }
-
-    /**
-     * Returns a Predicate that checks if a studySpot contains the amenity queried.
-     * @param queryAmenity
-     */
-    public static Predicate<StudySpot> containsAmenity(Amenity queryAmenity) {
-        Predicate<StudySpot> studySpotContainAmenity = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getAmenities().contains(queryAmenity);
-            }
-        };
-        return studySpotContainAmenity;
+    public Optional<LocalDateTime> getOpenAt() {
+        return Optional.ofNullable(openAt);
     }
 
     /**
-     * Returns a Predicate that checks if a studySpot contains the rating queried.
-     * @param queryRating
+     * Returns a Predicate that checks if a studySpot is open at {@code time} on {@code day}.
+     * The check reads the study spot's operating hours directly, so it allocates nothing per study spot.
      */
-    public static Predicate<StudySpot> containsRating(Rating queryRating) {
-        Predicate<StudySpot> studySpotContainRating = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getRating().equals(queryRating);
-            }
-        };
-        return studySpotContainRating;
+    public static Predicate<StudySpot> isOpenAt(DayOfWeek day, LocalTime time) {
+        return studySpot -> studySpot.getOperatingHours().isOpenAt(day, time);
     }
 
     @Override
@@ -182,11 +189,11 @@ public class ListCommand extends Command {
         }
 
         // state check
-        // Predicate is not a condition for equals as different predicates may have same results
         ListCommand c = (ListCommand) other;
         return (isFavFlagPresent == c.isFavFlagPresent)
                 && getTags().equals(c.getTags())
                 && getAmenities().equals(c.getAmenities())
-                && getRating().equals(c.getRating());
+                && getRating().equals(c.getRating())
+                && getOpenAt().equals(c.getOpenAt());
     }
 }
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Describes a command the user can enter: its command word, how its arguments are parsed, its usage message
+ * and whether it changes the data of the study tracker or the user prefs.
+ * Guarantees: immutable.
+ */
+public class CommandDescriptor {
+
+    private final String commandWord;
+    private final Supplier<? extends Parser<? extends Command>> parserFactory;
+    private final String usage;
+    private final boolean isMutating;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CommandDescriptor(String commandWord, Supplier<? extends Parser<? extends Command>> parserFactory,
+            String usage, boolean isMutating) {
+        requireAllNonNull(commandWord, parserFactory, usage);
+        this.commandWord = commandWord;
+        this.parserFactory = parserFactory;
+        this.usage = usage;
+        this.isMutating = isMutating;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /**
+     * Returns the command word with its first letter capitalized, as shown in the help window.
+     */
+    public String getDisplayName() {
+        return commandWord.substring(0, 1).toUpperCase() + commandWord.substring(1);
+    }
+
+    public String getUsage() {
+        return usage;
+    }
+
+    /**
+     * Returns true if the command may change the study tracker or the user prefs.
+     */
+    public boolean isMutating() {
+        return isMutating;
+    }
+
+    /**
+     * Parses the {@code arguments} entered after the command word into the command.
+     * @throws ParseException if {@code arguments} do not conform the expected format
+     */
+    public Command parse(String arguments) throws ParseException {
+        return parserFactory.get().parse(arguments);
+    }
+
+    @Override
+    public String toString() {
+        return commandWord;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FavouriteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.UnaliasCommand;
+import seedu.address.logic.commands.UnfavouriteCommand;
+import seedu.address.logic.parser.AddCommandParser;
+import seedu.address.logic.parser.AliasCommandParser;
+import seedu.address.logic.parser.BatchCommandParser;
+import seedu.address.logic.parser.DeleteCommandParser;
+import seedu.address.logic.parser.EditCommandParser;
+import seedu.address.logic.parser.FavouriteCommandParser;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.ListCommandParser;
+import seedu.address.logic.parser.LogCommandParser;
+import seedu.address.logic.parser.UnaliasCommandParser;
+import seedu.address.logic.parser.UnfavouriteCommandParser;
+
+/**
+ * Contains all the available commands.
+ * Adding a command only takes adding its {@link CommandDescriptor} here, which makes it parsable,
+ * usable in aliases and listed in the help window.
+ */
+public class CommandRegistry {
+
+    /** All the commands, in the order they are listed in the help window. */
+    private static final List<CommandDescriptor> COMMANDS = List.of(
+            new CommandDescriptor(AddCommand.COMMAND_WORD, AddCommandParser::new, AddCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(AliasCommand.COMMAND_WORD, AliasCommandParser::new, AliasCommand.MESSAGE_USAGE,
+                    true),
+            new CommandDescriptor(BatchCommand.COMMAND_WORD, BatchCommandParser::new, BatchCommand.MESSAGE_USAGE,
+                    true),
+            new CommandDescriptor(ClearCommand.COMMAND_WORD, () -> arguments -> new ClearCommand(),
+                    ClearCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(DeleteCommand.COMMAND_WORD, DeleteCommandParser::new,
+                    DeleteCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(EditCommand.COMMAND_WORD, EditCommandParser::new, EditCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(ExitCommand.COMMAND_WORD, () -> arguments -> new ExitCommand(),
+                    ExitCommand.MESSAGE_USAGE, false),
+            new CommandDescriptor(FindCommand.COMMAND_WORD, FindCommandParser::new, FindCommand.MESSAGE_USAGE,
+                    false),
+            new CommandDescriptor(FavouriteCommand.COMMAND_WORD, FavouriteCommandParser::new,
+                    FavouriteCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(HelpCommand.COMMAND_WORD, () -> arguments -> new HelpCommand(),
+                    HelpCommand.MESSAGE_USAGE, false),
+            new CommandDescriptor(ListCommand.COMMAND_WORD, ListCommandParser::new, ListCommand.MESSAGE_USAGE,
+                    false),
+            new CommandDescriptor(LogCommand.COMMAND_WORD, LogCommandParser::new, LogCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(UnaliasCommand.COMMAND_WORD, UnaliasCommandParser::new,
+                    UnaliasCommand.MESSAGE_USAGE, true),
+            new CommandDescriptor(UnfavouriteCommand.COMMAND_WORD, UnfavouriteCommandParser::new,
+                    UnfavouriteCommand.MESSAGE_USAGE, true));
+
+    private static final Map<String, CommandDescriptor> COMMANDS_BY_WORD = indexByCommandWord(COMMANDS);
+
+    /**
+     * Returns all the commands, in the order they are listed in the help window.
+     */
+    public static List<CommandDescriptor> getCommands() {
+        return COMMANDS;
+    }
+
+    /**
+     * Returns the command with {@code commandWord}, or null if there is none.
+     */
+    public static CommandDescriptor getCommand(String commandWord) {
+        return COMMANDS_BY_WORD.get(commandWord);
+    }
+
+    /**
+     * Returns true if {@code word} is the command word of a command.
+     */
+    public static boolean isCommandWord(String word) {
+        return COMMANDS_BY_WORD.containsKey(word);
+    }
+
+    private static Map<String, CommandDescriptor> indexByCommandWord(List<CommandDescriptor> commands) {
+        Map<String, CommandDescriptor> commandsByWord = new HashMap<>();
+        for (CommandDescriptor command : commands) {
+            CommandDescriptor previous = commandsByWord.put(command.getCommandWord(), command);
+            assert previous == null : "Command word used twice: " + command.getCommandWord();
+        }
+        return Map.copyOf(commandsByWord);
+    }
+}
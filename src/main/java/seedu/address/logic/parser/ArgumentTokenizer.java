@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,6 +15,11 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /** Tries of the sets of prefixes tokenized with so far. There are only as many as there are parsers. */
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +29,128 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        return extractArguments(argsString, getTrie(prefixes));
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Returns the trie of {@code prefixes}, building it the first time these prefixes are tokenized with.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    private static PrefixTrie getTrie(Prefix... prefixes) {
+        PrefixTrie trie = TRIES.get(Arrays.asList(prefixes));
+        if (trie == null) {
+            trie = new PrefixTrie(prefixes);
+            TRIES.put(List.of(prefixes), trie);
         }
-
-        return positions;
+        return trie;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Extracts prefixes and their argument values in a single left-to-right scan of {@code argsString}, and returns
+     * an {@code ArgumentMultimap} object that maps the extracted prefixes to their respective arguments.
+     * A prefix is only recognized if there is a whitespace before it, e.g. there is no {@code p/} in
+     * {@code "e/hip/900"}, but there is one at index 5 of {@code "e/hi p/900"}.
+     * If several prefixes start at the same index, the longest one is recognized.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param trie       Trie of the prefixes to recognize
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, PrefixTrie trie) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix argPrefix = PREAMBLE;
+        int valueStartPos = 0;
+
+        int length = argsString.length();
+        for (int i = 0; i < length; i++) {
+            if (argsString.charAt(i) != ' ') {
+                continue;
+            }
+
+            Prefix nextPrefix = null;
+            int nextValueStartPos = -1;
+            PrefixTrie.Node node = trie.root;
+            for (int j = i + 1; j < length; j++) {
+                node = node.getChild(argsString.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    nextPrefix = node.prefix;
+                    nextValueStartPos = j + 1;
+                }
+            }
+
+            if (nextPrefix != null) {
+                argMultimap.put(argPrefix, argsString.substring(valueStartPos, i).trim());
+                argPrefix = nextPrefix;
+                valueStartPos = nextValueStartPos;
+                // prefixes contain no whitespace, so no other prefix starts within this one
+                i = nextValueStartPos - 1;
+            }
         }
+        argMultimap.put(argPrefix, argsString.substring(valueStartPos).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of prefixes, which finds every prefix starting at an index of an arguments string in one pass.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                Node node = root;
+                for (char c : prefix.getPrefix().toCharArray()) {
+                    node = node.getOrAddChild(c);
+                }
+                node.prefix = prefix;
+            }
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * A node of the trie, reached by the characters of its path from the root.
+         * Children are looked up in a table for ASCII characters, and in small arrays for any others.
+         */
+        private static class Node {
+            private static final int ASCII_SIZE = 128;
+
+            private final Node[] asciiChildren = new Node[ASCII_SIZE];
+            private char[] otherKeys = new char[0];
+            private Node[] otherChildren = new Node[0];
+            /** The prefix spelled by the path to this node, or null if no prefix ends here. */
+            private Prefix prefix;
+
+            Node getChild(char c) {
+                if (c < ASCII_SIZE) {
+                    return asciiChildren[c];
+                }
+                for (int i = 0; i < otherKeys.length; i++) {
+                    if (otherKeys[i] == c) {
+                        return otherChildren[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char c) {
+                Node child = getChild(c);
+                if (child != null) {
+                    return child;
+                }
+
+                child = new Node();
+                if (c < ASCII_SIZE) {
+                    asciiChildren[c] = child;
+                } else {
+                    otherKeys = Arrays.copyOf(otherKeys, otherKeys.length + 1);
+                    otherChildren = Arrays.copyOf(otherChildren, otherChildren.length + 1);
+                    otherKeys[otherKeys.length - 1] = c;
+                    otherChildren[otherChildren.length - 1] = child;
+                }
+                return child;
+            }
         }
     }
 
@@ -3,18 +3,19 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FLAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPERATING_HOURS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Rating;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -22,6 +23,23 @@ import seedu.address.model.tag.Tag;
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
+    private final Clock clock;
+
+    /**
+     * Creates a ListCommandParser that reads the current date and time from the system clock.
+     */
+    public ListCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a ListCommandParser that reads the current date and time from {@code clock}.
+     */
+    public ListCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
      * and returns a ListCommand object for execution.
@@ -30,15 +48,14 @@ public class ListCommandParser implements Parser<ListCommand> {
     public ListCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FLAG, PREFIX_TAG, PREFIX_AMENITY,
-                PREFIX_RATING);
-        Predicate<StudySpot> predicate = ParserUtil.parseFlags(argMultimap);
-
+                PREFIX_RATING, PREFIX_OPERATING_HOURS);
         List<String> flagsList = argMultimap.getAllValues(PREFIX_FLAG);
 
         boolean isFavFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_FAVOURITES);
         boolean isTagFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_TAGS);
         boolean isAmenityFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_AMENITIES);
         boolean isRatingFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_RATING);
+        boolean isOpenFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_OPEN);
 
         Set<Tag> tagList = isTagFlagPresent ? ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)) : null;
         Set<Amenity> amenityList = isAmenityFlagPresent
@@ -46,7 +63,11 @@ public class ListCommandParser implements Parser<ListCommand> {
                 : null;
 
         Rating rating = isRatingFlagPresent
-                ? ParserUtil.parseRating(argMultimap.getValue(PREFIX_RATING).get()) : null;
+                ? ParserUtil.parseRating(argMultimap.getValue(PREFIX_RATING)
+                        .orElseThrow(() -> new ParseException(ListCommand.MESSAGE_MISSING_RATING)))
+                : null;
+
+        LocalDateTime openAt = isOpenFlagPresent ? parseOpenAt(argMultimap) : null;
 
         if (isTagFlagPresent && tagList.isEmpty()) {
             throw new ParseException(ListCommand.MESSAGE_MISSING_TAGS);
@@ -61,6 +82,17 @@ public class ListCommandParser implements Parser<ListCommand> {
                 throw new ParseException(ListCommand.MESSAGE_UNKNOWN_FLAGS);
             }
         }
-        return new ListCommand(predicate, isFavFlagPresent, tagList, amenityList, rating);
+        return new ListCommand(isFavFlagPresent, tagList, amenityList, rating, openAt);
+    }
+
+    /**
+     * Returns the given time today, or the current time if no time is given.
+     */
+    private LocalDateTime parseOpenAt(ArgumentMultimap argMultimap) throws ParseException {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (argMultimap.getValue(PREFIX_OPERATING_HOURS).isEmpty()) {
+            return now;
+        }
+        return now.toLocalDate().atTime(ParserUtil.parseTime(argMultimap.getValue(PREFIX_OPERATING_HOURS).get()));
     }
 }
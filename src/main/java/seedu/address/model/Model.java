@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -26,6 +32,11 @@ public interface Model {
      */
     ReadOnlyUserPrefs getUserPrefs();
 
+    /**
+     * Returns a number that changes every time the user prefs are changed through this model.
+     */
+    long getUserPrefsVersion();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -69,13 +80,18 @@ public interface Model {
     /** Returns the StudyTracker */
     ReadOnlyStudyTracker getStudyTracker();
 
+    /**
+     * Returns a number that changes every time the study tracker is changed through this model.
+     */
+    long getStudyTrackerVersion();
+
     /**
      * Returns true if a study spot with the same identity as {@code studySpot} exists in the study tracker.
      */
     boolean hasStudySpot(StudySpot studySpot);
 
     /**
-     * Returns StudySpot with the specified {@code Name} in the study tracker.
+     * Returns StudySpot with the specified {@code Name} in the study tracker, ignoring case.
      * Otherwise, returns null.
      */
     StudySpot findStudySpot(Name name);
@@ -134,13 +150,36 @@ public interface Model {
      */
     void updateFilteredStudySpotList(Predicate<StudySpot> predicate);
 
+    /**
+     * Returns a predicate that accepts the study spots which have all of {@code tags}, all of {@code amenities}
+     * and {@code rating}, answered from the study tracker's attribute index.
+     * A null or empty argument places no constraint on that attribute.
+     */
+    Predicate<StudySpot> getStudySpotAttributeFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating);
+
     /**
      * Returns an unmodifiable view of the non filtered study spot list
      */
     ObservableList<StudySpot> getFullList();
 
     /**
-     * Returns the top 5 {@code StudySpots} based off the studied hours
+     * Returns an unmodifiable view of the most studied {@code StudySpots}, ordered by studied hours.
+     * The view is updated in place as the study tracker changes.
+     */
+    ObservableList<StudySpot> getTopStudiedStudySpotList();
+
+    /**
+     * Returns the total hours studied across all study spots, kept up to date as the study tracker changes.
+     */
+    ReadOnlyLongProperty totalStudiedHoursProperty();
+
+    /**
+     * Returns an unmodifiable view of the hours studied at study spots with each tag.
+     */
+    ObservableMap<Tag, Long> getStudiedHoursByTag();
+
+    /**
+     * Returns an unmodifiable view of the hours studied at study spots with each amenity.
      */
-    ObservableList<StudySpot> getTopFiveStudySpotList();
+    ObservableMap<Amenity, Long> getStudiedHoursByAmenity();
 }
@@ -4,20 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudiedHoursLeaderboard;
+import seedu.address.model.studyspot.StudiedHoursStatistics;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the study tracker data.
@@ -29,9 +34,16 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<StudySpot> filteredStudySpots;
     private final FilteredList<StudySpot> favouriteStudySpots;
+    private final StudiedHoursLeaderboard leaderboard;
+    private final StudiedHoursStatistics studiedHoursStatistics;
+
+    private long studyTrackerVersion;
+    private long userPrefsVersion;
 
     /**
      * Initializes a ModelManager with the given studyTracker and userPrefs.
+     * The leaderboard of most studied study spots lists as many study spots as the leaderboard size
+     * in {@code userPrefs} when the model is created.
      */
     public ModelManager(ReadOnlyStudyTracker studyTracker, ReadOnlyUserPrefs userPrefs) {
         super();
@@ -43,6 +55,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudySpots = new FilteredList<>(this.studyTracker.getStudySpotList());
         favouriteStudySpots = new FilteredList<>(this.studyTracker.getFavouriteStudySpotList());
+        leaderboard = new StudiedHoursLeaderboard(userPrefs.getLeaderboardSize());
+        studiedHoursStatistics = new StudiedHoursStatistics();
+        refreshStatistics();
     }
 
     public ModelManager() {
@@ -55,6 +70,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        userPrefsVersion++;
     }
 
     @Override
@@ -62,6 +78,11 @@ public class ModelManager implements Model {
         return userPrefs;
     }
 
+    @Override
+    public long getUserPrefsVersion() {
+        return userPrefsVersion;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return userPrefs.getGuiSettings();
@@ -71,6 +92,7 @@ public class ModelManager implements Model {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         userPrefs.setGuiSettings(guiSettings);
+        userPrefsVersion++;
     }
 
     @Override
@@ -82,6 +104,7 @@ public class ModelManager implements Model {
     public void setStudyTrackerFilePath(Path studyTrackerFilePath) {
         requireNonNull(studyTrackerFilePath);
         userPrefs.setStudyTrackerFilePath(studyTrackerFilePath);
+        userPrefsVersion++;
     }
 
     @Override
@@ -93,6 +116,7 @@ public class ModelManager implements Model {
 
         aliases.add(aliasToAdd);
         userPrefs.setUserAliases(aliases);
+        userPrefsVersion++;
     }
 
     @Override
@@ -104,6 +128,7 @@ public class ModelManager implements Model {
         aliases.removeIf(al -> al.userAlias.equals(aliasToRemove.getUserAlias()));
 
         userPrefs.setUserAliases(aliases);
+        userPrefsVersion++;
     }
 
 
@@ -120,6 +145,8 @@ public class ModelManager implements Model {
     @Override
     public void setStudyTracker(ReadOnlyStudyTracker studyTracker) {
         this.studyTracker.resetData(studyTracker);
+        refreshStatistics();
+        studyTrackerVersion++;
     }
 
     @Override
@@ -127,6 +154,11 @@ public class ModelManager implements Model {
         return studyTracker;
     }
 
+    @Override
+    public long getStudyTrackerVersion() {
+        return studyTrackerVersion;
+    }
+
     @Override
     public boolean hasStudySpot(StudySpot studySpot) {
         requireNonNull(studySpot);
@@ -147,11 +179,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteStudySpot(StudySpot target) {
         studyTracker.removeStudySpot(target);
+        trackRemoved(target);
     }
 
     @Override
     public void addStudySpot(StudySpot studySpot) {
         studyTracker.addStudySpot(studySpot);
+        trackAdded(studySpot);
         if (studySpot.isFavourite()) {
             addStudySpotToFavourites(studySpot);
         }
@@ -163,6 +197,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedStudySpot);
 
         studyTracker.setStudySpot(target, editedStudySpot);
+        trackReplaced(target, editedStudySpot);
     }
 
     /**
@@ -182,6 +217,7 @@ public class ModelManager implements Model {
     @Override
     public StudySpot addStudySpotToFavourites(StudySpot studySpot) {
         StudySpot favStudySpot = studyTracker.addStudySpotToFavourites(studySpot);
+        trackReplaced(studySpot, favStudySpot);
         return favStudySpot;
     }
 
@@ -192,9 +228,53 @@ public class ModelManager implements Model {
     @Override
     public StudySpot removeStudySpotFromFavourites(StudySpot studySpot) {
         StudySpot unfavStudySpot = studyTracker.removeStudySpotFromFavourites(studySpot);
+        trackReplaced(studySpot, unfavStudySpot);
         return unfavStudySpot;
     }
 
+    //=========== Studied Hours Statistics ============================================================================
+
+    @Override
+    public ReadOnlyLongProperty totalStudiedHoursProperty() {
+        return studiedHoursStatistics.totalStudiedHoursProperty();
+    }
+
+    @Override
+    public ObservableMap<Tag, Long> getStudiedHoursByTag() {
+        return studiedHoursStatistics.getStudiedHoursByTag();
+    }
+
+    @Override
+    public ObservableMap<Amenity, Long> getStudiedHoursByAmenity() {
+        return studiedHoursStatistics.getStudiedHoursByAmenity();
+    }
+
+    /**
+     * Rebuilds the leaderboard and studied hours statistics from the whole study tracker.
+     */
+    private void refreshStatistics() {
+        leaderboard.reset(studyTracker.getStudySpotList());
+        studiedHoursStatistics.reset(studyTracker.getStudySpotList());
+    }
+
+    private void trackAdded(StudySpot studySpot) {
+        leaderboard.add(studySpot);
+        studiedHoursStatistics.add(studySpot);
+        studyTrackerVersion++;
+    }
+
+    private void trackReplaced(StudySpot target, StudySpot editedStudySpot) {
+        leaderboard.replace(target, editedStudySpot);
+        studiedHoursStatistics.replace(target, editedStudySpot);
+        studyTrackerVersion++;
+    }
+
+    private void trackRemoved(StudySpot studySpot) {
+        leaderboard.remove(studySpot);
+        studiedHoursStatistics.remove(studySpot);
+        studyTrackerVersion++;
+    }
+
     //=========== Filtered StudySpot List Accessors =============================================================
 
     /**
@@ -212,34 +292,18 @@ public class ModelManager implements Model {
         filteredStudySpots.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<StudySpot> getStudySpotAttributeFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        return studyTracker.getAttributeFilter(tags, amenities, rating);
+    }
+
     /**
-     * Returns an unmodifiable view of the list of the top 5 Studied {@code StudySpot}
+     * Returns an unmodifiable view of the most studied {@code StudySpot}s, which is kept up to date as
+     * study spots change rather than recomputed on each call.
      */
     @Override
-    public ObservableList<StudySpot> getTopFiveStudySpotList() {
-        int numOfSpots = 0;
-        ObservableList<StudySpot> result = FXCollections.observableArrayList();
-        Comparator<StudySpot> comparator = (spotA, spotB) -> {
-            int spotAStudiedHours = spotA.getStudiedHours().getHours();
-            int spotBStudiedHours = spotB.getStudiedHours().getHours();
-            return spotBStudiedHours - spotAStudiedHours;
-        };
-
-        //Priority queue based off studied hours, greater the studied hours the greater priority
-        PriorityQueue<StudySpot> queue = new PriorityQueue<>(5, comparator);
-        ObservableList<StudySpot> fullList = studyTracker.getStudySpotList();
-
-        //Add all elements from fullList into priority queue
-        queue.addAll(fullList);
-
-        while (!queue.isEmpty()) {
-            if (numOfSpots == 5) {
-                break;
-            }
-            result.add(queue.remove());
-            numOfSpots++;
-        }
-        return result;
+    public ObservableList<StudySpot> getTopStudiedStudySpotList() {
+        return leaderboard.asUnmodifiableObservableList();
     }
 
     //=========== Favourite StudySpots ===============================================================================
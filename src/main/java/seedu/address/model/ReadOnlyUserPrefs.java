@@ -3,8 +3,10 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.util.List;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasRegistry;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,6 +17,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getStudyTrackerFilePath();
 
+    DataFileFormat getStudyTrackerFileFormat();
+
+    /**
+     * Returns the number of most studied study spots listed in the leaderboard.
+     */
+    int getLeaderboardSize();
+
     List<Alias> getUserAliases();
 
+    /**
+     * Returns the registry of the user aliases, which follows every {@code setUserAliases}.
+     */
+    AliasRegistry getAliasRegistry();
+
 }
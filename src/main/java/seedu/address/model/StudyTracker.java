@@ -3,12 +3,21 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Favourite;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotAttributeIndex;
 import seedu.address.model.studyspot.UniqueStudySpotList;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the study-tracker level
@@ -18,6 +27,7 @@ public class StudyTracker implements ReadOnlyStudyTracker {
 
     private final UniqueStudySpotList studySpots;
     private final UniqueStudySpotList favouriteStudySpots;
+    private final StudySpotAttributeIndex attributeIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +39,7 @@ public class StudyTracker implements ReadOnlyStudyTracker {
     {
         studySpots = new UniqueStudySpotList();
         favouriteStudySpots = new UniqueStudySpotList();
+        attributeIndex = new StudySpotAttributeIndex();
     }
 
     public StudyTracker() {}
@@ -48,7 +59,10 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      * {@code studySpots} must not contain duplicate study spots.
      */
     public void setStudySpots(List<StudySpot> studySpots) {
-        this.studySpots.setStudySpots(studySpots);
+        UniqueStudySpotList replacement = new UniqueStudySpotList();
+        replacement.setStudySpots(studySpots);
+        attributeIndex.reset(studySpots);
+        this.studySpots.setStudySpots(replacement);
     }
 
     /**
@@ -59,6 +73,19 @@ public class StudyTracker implements ReadOnlyStudyTracker {
         this.favouriteStudySpots.setStudySpots(studySpots);
     }
 
+    /**
+     * Replaces the contents of the study tracker with {@code studySpots} as a single batch.
+     * Favourites are taken from the study spots that are marked as favourite.
+     * Uniqueness is checked in one pass over the batch, and nothing is replaced if it fails.
+     *
+     * @throws DuplicateStudySpotException listing every study spot that duplicates an earlier one in the batch.
+     */
+    public void loadStudySpots(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        setStudySpots(studySpots);
+        setFavouriteStudySpots(studySpots.stream().filter(StudySpot::isFavourite).collect(Collectors.toList()));
+    }
+
     /**
      * Resets the existing data of this {@code StudyTracker} with {@code newData}.
      */
@@ -80,20 +107,15 @@ public class StudyTracker implements ReadOnlyStudyTracker {
     }
 
     /**
-     * Returns StudySpot with the specified {@code Name} in the study tracker.
+     * Returns StudySpot with the specified {@code Name} in the study tracker, ignoring case.
      * Otherwise, returns null.
+     * This is a single lookup in the study spot list's name index.
      *
      * @param name
      */
     public StudySpot findStudySpot(Name name) {
-        StudySpot studySpot = null;
-        for (StudySpot current: studySpots) {
-            if (current.isSameName(name)) {
-                studySpot = current;
-                break;
-            }
-        }
-        return studySpot;
+        requireNonNull(name);
+        return studySpots.get(name);
     }
 
     /**
@@ -101,6 +123,10 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      * The study spot must not already exist in the study tracker.
      */
     public void addStudySpot(StudySpot p) {
+        if (studySpots.contains(p)) {
+            throw new DuplicateStudySpotException();
+        }
+        attributeIndex.add(p);
         studySpots.add(p);
     }
 
@@ -112,7 +138,12 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      */
     public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
         requireNonNull(editedStudySpot);
+        requireExisting(target);
+        if (!target.isSameStudySpot(editedStudySpot) && studySpots.contains(editedStudySpot)) {
+            throw new DuplicateStudySpotException();
+        }
 
+        attributeIndex.replace(target, editedStudySpot);
         studySpots.setStudySpot(target, editedStudySpot);
         if (editedStudySpot.isFavourite() && favouriteStudySpots.contains(target)) {
             favouriteStudySpots.setStudySpot(target, editedStudySpot);
@@ -124,9 +155,37 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      * {@code key} must exist in the study tracker.
      */
     public void removeStudySpot(StudySpot key) {
+        requireExisting(key);
+        attributeIndex.remove(key);
         studySpots.remove(key);
     }
 
+    /**
+     * Returns a predicate that accepts the study spots which have all of {@code tags}, all of {@code amenities}
+     * and {@code rating}. A null or empty argument places no constraint on that attribute.
+     * Tags and ratings are checked against the live posting sets of the attribute index, and amenities against
+     * each study spot's amenity mask, so the predicate stays correct as study spots are added, edited or replaced.
+     */
+    public Predicate<StudySpot> getAttributeFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        Set<Tag> requiredTags = tags == null ? Set.of() : Set.copyOf(tags);
+        int amenityMask = amenities == null ? 0 : Amenity.toMask(amenities);
+        return studySpot -> studySpot.hasAmenities(amenityMask)
+                && attributeIndex.hasAttributes(studySpot.getName(), requiredTags, rating);
+    }
+
+    /**
+     * Checks that {@code studySpot} is in the study tracker before the attribute index is updated for it,
+     * as the index must only change along with the study spot list.
+     *
+     * @throws StudySpotNotFoundException if no study spot equal to {@code studySpot} is in the study tracker.
+     */
+    private void requireExisting(StudySpot studySpot) {
+        requireNonNull(studySpot);
+        if (!studySpot.equals(studySpots.get(studySpot.getName()))) {
+            throw new StudySpotNotFoundException();
+        }
+    }
+
     //// Favourite study spot-level operations
 
     /**
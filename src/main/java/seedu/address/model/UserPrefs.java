@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,8 +10,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasRegistry;
+import seedu.address.model.studyspot.StudiedHoursLeaderboard;
 
 /**
  * Represents User's preferences.
@@ -22,14 +26,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
             new Alias("bye", "exit"),
             new Alias("quit", "exit")
     );
+    public static final int DEFAULT_LEADERBOARD_SIZE = 5;
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path studyTrackerFilePath = Paths.get("data" , "studytracker.json");
+    private DataFileFormat studyTrackerFileFormat = DataFileFormat.JSON;
+    private int leaderboardSize = DEFAULT_LEADERBOARD_SIZE;
 
     // We want the aliases to be editable, so we need to wrap with ArrayList
     // https://stackoverflow.com/questions/2965747
     private List<Alias> userAliases = new ArrayList<>(DEFAULT_PROGRAM_ALIASES);
 
+    // Built from userAliases, so it is not saved with the other prefs
+    private transient AliasRegistry aliasRegistry = new AliasRegistry(userAliases);
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -50,7 +60,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudyTrackerFilePath(newUserPrefs.getStudyTrackerFilePath());
-        setUserAliases(newUserPrefs.getUserAliases());
+        setStudyTrackerFileFormat(newUserPrefs.getStudyTrackerFileFormat());
+        setLeaderboardSize(newUserPrefs.getLeaderboardSize());
+        setUserAliases(new ArrayList<>(newUserPrefs.getUserAliases()));
     }
 
     public GuiSettings getGuiSettings() {
@@ -71,15 +83,45 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.studyTrackerFilePath = studyTrackerFilePath;
     }
 
+    public DataFileFormat getStudyTrackerFileFormat() {
+        return studyTrackerFileFormat;
+    }
+
+    public void setStudyTrackerFileFormat(DataFileFormat studyTrackerFileFormat) {
+        requireNonNull(studyTrackerFileFormat);
+        this.studyTrackerFileFormat = studyTrackerFileFormat;
+    }
+
+    public int getLeaderboardSize() {
+        return leaderboardSize;
+    }
+
+    /**
+     * Sets the number of most studied study spots listed in the leaderboard, which must be positive.
+     */
+    public void setLeaderboardSize(int leaderboardSize) {
+        checkArgument(leaderboardSize > 0, StudiedHoursLeaderboard.MESSAGE_CONSTRAINTS);
+        this.leaderboardSize = leaderboardSize;
+    }
+
+    /**
+     * Replaces the user aliases with {@code aliases} and rebuilds the alias registry from them.
+     * Changes to the list of user aliases only reach the alias registry through this method.
+     */
     public void setUserAliases(List<Alias> aliases) {
         requireNonNull(aliases);
         this.userAliases = aliases;
+        this.aliasRegistry = new AliasRegistry(aliases);
     }
 
     public List<Alias> getUserAliases() {
         return userAliases;
     }
 
+    public AliasRegistry getAliasRegistry() {
+        return aliasRegistry;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -93,12 +135,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && studyTrackerFilePath.equals(o.studyTrackerFilePath)
+                && studyTrackerFileFormat == o.studyTrackerFileFormat
+                && leaderboardSize == o.leaderboardSize
                 && userAliases.equals(o.userAliases);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, studyTrackerFilePath, userAliases);
+        return Objects.hash(guiSettings, studyTrackerFilePath, studyTrackerFileFormat, leaderboardSize, userAliases);
     }
 
     @Override
@@ -106,6 +150,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + studyTrackerFilePath);
+        sb.append("\nLocal data file format : " + studyTrackerFileFormat);
+        sb.append("\nLeaderboard size : " + leaderboardSize);
         sb.append("\nWith user aliases : " + userAliases);
         return sb.toString();
     }
@@ -4,10 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AliasCommand;
 import seedu.address.logic.commands.UnaliasCommand;
-import seedu.address.logic.commands.util.CommandList;
+import seedu.address.logic.commands.util.CommandRegistry;
 
 /**
  * Represents an Alias in the study tracker program.
@@ -25,6 +26,8 @@ public class Alias {
     public static final String MESSAGE_COMMAND_WARN = "Please do not create aliases for alias and unalias >:( "
             + "We don't want any recursion shenanigans.";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String userAlias;
     public final String aliasCommandWord;
 
@@ -58,7 +61,8 @@ public class Alias {
      */
     public static boolean isValidUserAlias(String userAlias) {
         return userAlias != null && !userAlias.isBlank()
-                && userAlias.matches(VALIDATION_REGEX) && !CommandList.COMMAND_WORDS_LIST.contains(userAlias);
+                && VALIDATION_PATTERN.matcher(userAlias).matches()
+                && !CommandRegistry.isCommandWord(userAlias);
     }
 
     /**
@@ -68,7 +72,7 @@ public class Alias {
     public static boolean isValidCommandWord(String commandWord) {
         if (commandWord != null) {
             String firstWord = commandWord.split(" ")[0];
-            return CommandList.COMMAND_WORDS_LIST.contains(firstWord);
+            return CommandRegistry.isCommandWord(firstWord);
         }
 
         return false;
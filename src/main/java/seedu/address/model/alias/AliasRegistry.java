@@ -0,0 +1,105 @@
+package seedu.address.model.alias;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The user aliases of the study tracker, ready to be looked up while parsing commands.
+ * Each alias is split into its command word and arguments once, when the registry is built.
+ * Guarantees: immutable.
+ */
+public class AliasRegistry {
+
+    private final Map<String, Expansion> expansions;
+
+    /**
+     * Builds the registry of {@code aliases}.
+     * If several aliases have the same user alias, the last one is used.
+     */
+    public AliasRegistry(List<Alias> aliases) {
+        requireNonNull(aliases);
+        Map<String, Expansion> expansionsByAlias = new HashMap<>();
+        for (Alias alias : aliases) {
+            expansionsByAlias.put(alias.getUserAlias(), new Expansion(alias.getAliasCommandWord()));
+        }
+        expansions = Map.copyOf(expansionsByAlias);
+    }
+
+    /**
+     * Returns the expansion of {@code userAlias}, or null if it is not an alias.
+     */
+    public Expansion getExpansion(String userAlias) {
+        return expansions.get(userAlias);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AliasRegistry // instanceof handles nulls
+                && expansions.equals(((AliasRegistry) other).expansions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return expansions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return expansions.toString();
+    }
+
+    /**
+     * The command an alias stands for, split into its command word and its arguments.
+     * Guarantees: immutable.
+     */
+    public static class Expansion {
+
+        private final String commandWord;
+        private final String arguments;
+
+        /**
+         * Splits {@code aliasCommandWord} at its first space.
+         * The arguments keep their leading space, like the arguments typed after a command word.
+         */
+        Expansion(String aliasCommandWord) {
+            int firstSpace = aliasCommandWord.indexOf(' ');
+            if (firstSpace < 0) {
+                commandWord = aliasCommandWord;
+                arguments = "";
+            } else {
+                commandWord = aliasCommandWord.substring(0, firstSpace);
+                arguments = aliasCommandWord.substring(firstSpace);
+            }
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public String getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Expansion // instanceof handles nulls
+                    && commandWord.equals(((Expansion) other).commandWord)
+                    && arguments.equals(((Expansion) other).arguments)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return commandWord.hashCode() * 31 + arguments.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return commandWord + arguments;
+        }
+    }
+}
@@ -3,7 +3,13 @@ package seedu.address.model.amenity;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Represents an Amenity in the study tracker.
@@ -12,9 +18,15 @@ import java.util.Arrays;
 public class Amenity {
 
     public static final String MESSAGE_CONSTRAINTS = "Amenities should only be of the types: %s.";
-    public static final String[] VALID_TYPES = {"wifi", "charger", "food", "aircon"};
+    public static final String[] VALID_TYPES = Arrays.stream(AmenityType.values())
+            .map(AmenityType::getTypeName).toArray(String[]::new);
+
+    private static final Amenity[] AMENITIES_BY_TYPE = Arrays.stream(AmenityType.values())
+            .map(Amenity::new).toArray(Amenity[]::new);
+    private static final List<Set<Amenity>> AMENITY_SETS_BY_MASK = createAmenitySets();
 
     public final String amenityType;
+    private final AmenityType type;
 
     /**
      * Constructs a {@code Amenity}.
@@ -25,7 +37,36 @@ public class Amenity {
         requireNonNull(amenityType);
         checkArgument(isValidAmenityType(amenityType),
                 String.format(MESSAGE_CONSTRAINTS, listAllAmenityTypes(VALID_TYPES)));
-        this.amenityType = amenityType;
+        this.type = AmenityType.fromTypeName(amenityType);
+        this.amenityType = type.getTypeName();
+    }
+
+    /**
+     * Returns the shared {@code Amenity} of the given type.
+     *
+     * @param amenityType A valid amenity type.
+     */
+    public static Amenity of(String amenityType) {
+        requireNonNull(amenityType);
+        checkArgument(isValidAmenityType(amenityType),
+                String.format(MESSAGE_CONSTRAINTS, listAllAmenityTypes(VALID_TYPES)));
+        return AMENITIES_BY_TYPE[AmenityType.fromTypeName(amenityType).ordinal()];
+    }
+
+    private Amenity(AmenityType type) {
+        this.type = type;
+        this.amenityType = type.getTypeName();
+    }
+
+    public AmenityType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the mask with only this amenity's bit set.
+     */
+    public int getMask() {
+        return type.getBit();
     }
 
     /**
@@ -33,7 +74,43 @@ public class Amenity {
      */
     public static boolean isValidAmenityType(String test) {
         requireNonNull(test);
-        return Arrays.asList(VALID_TYPES).stream().anyMatch(test::equalsIgnoreCase);
+        return AmenityType.fromTypeName(test) != null;
+    }
+
+    /**
+     * Returns the mask with the bits of all {@code amenities} set.
+     */
+    public static int toMask(Collection<Amenity> amenities) {
+        requireNonNull(amenities);
+        int mask = 0;
+        for (Amenity amenity : amenities) {
+            mask |= amenity.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the immutable set of amenities whose bits are set in {@code mask}.
+     * Sets are shared between callers, so no set is built per call.
+     */
+    public static Set<Amenity> fromMask(int mask) {
+        checkArgument(mask >= 0 && mask < AMENITY_SETS_BY_MASK.size(), "Invalid amenity mask: " + mask);
+        return AMENITY_SETS_BY_MASK.get(mask);
+    }
+
+    private static List<Set<Amenity>> createAmenitySets() {
+        int setCount = 1 << AMENITIES_BY_TYPE.length;
+        List<Set<Amenity>> amenitySets = new ArrayList<>(setCount);
+        for (int mask = 0; mask < setCount; mask++) {
+            Set<Amenity> amenities = new LinkedHashSet<>();
+            for (Amenity amenity : AMENITIES_BY_TYPE) {
+                if ((mask & amenity.getMask()) != 0) {
+                    amenities.add(amenity);
+                }
+            }
+            amenitySets.add(Collections.unmodifiableSet(amenities));
+        }
+        return amenitySets;
     }
 
     /**
@@ -57,7 +134,7 @@ public class Amenity {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof seedu.address.model.amenity.Amenity // instanceof handles nulls
-                && amenityType.equals(((seedu.address.model.amenity.Amenity) other).amenityType)); // state check
+                && type == ((seedu.address.model.amenity.Amenity) other).type); // state check
     }
 
     @Override
@@ -73,4 +150,3 @@ public class Amenity {
     }
 
 }
-
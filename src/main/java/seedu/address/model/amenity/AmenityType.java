@@ -0,0 +1,47 @@
+package seedu.address.model.amenity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The closed set of amenity types a study spot can have.
+ * Each type owns one bit, so a set of amenity types fits in an {@code int} mask.
+ */
+public enum AmenityType {
+    WIFI, CHARGER, FOOD, AIRCON;
+
+    private static final Map<String, AmenityType> TYPES_BY_NAME = new HashMap<>();
+
+    static {
+        for (AmenityType type : values()) {
+            TYPES_BY_NAME.put(type.getTypeName(), type);
+        }
+    }
+
+    private final String typeName = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Returns the name of this type as entered by users and stored in the data file, e.g. {@code wifi}.
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the bit that represents this type in an amenity mask.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Returns the type named {@code typeName}, ignoring case, or null if there is no such type.
+     */
+    public static AmenityType fromTypeName(String typeName) {
+        requireNonNull(typeName);
+        return TYPES_BY_NAME.get(typeName.toLowerCase(Locale.ROOT));
+    }
+}
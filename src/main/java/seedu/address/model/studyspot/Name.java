@@ -3,6 +3,8 @@ package seedu.address.model.studyspot;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a StudySpot's name in the study tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +20,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    /** Case-folded form of {@code fullName}, computed once so that case-insensitive lookups do not allocate. */
+    private final String caseInsensitiveKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,16 +36,25 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        caseInsensitiveKey = name.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
+    /**
+     * Returns a key that is equal for names differing only in case.
+     * Suitable for hashing names case-insensitively.
+     */
+    public String getCaseInsensitiveKey() {
+        return caseInsensitiveKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -64,9 +80,7 @@ public class Name {
      * @return true if they are the same
      */
     public boolean isSameNameCaseInsensitive(Name other) {
-        String fullNameCaseInsensitive = this.fullName.toLowerCase();
-        String otherNameCaseInsensitive = other.fullName.toLowerCase();
-        return fullNameCaseInsensitive.equals(otherNameCaseInsensitive);
+        return caseInsensitiveKey.equals(other.caseInsensitiveKey);
     }
 
 }
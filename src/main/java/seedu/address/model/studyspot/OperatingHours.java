@@ -2,10 +2,18 @@ package seedu.address.model.studyspot;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 
 /**
  * Represents a StudySpot's operating hours in the study tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidOperatingHours(String)}
+ *
+ * Opening and closing times are kept as minutes since midnight, so that checking whether a study spot is open
+ * needs no parsing or allocation. A closing time earlier than the opening time means the study spot closes
+ * after midnight, and equal opening and closing times mean it is open all day.
  */
 public class OperatingHours {
 
@@ -13,15 +21,25 @@ public class OperatingHours {
             + "[HHmm-HHmm, HHmm-HHmm], "
             + "where the first argument represents operating hours in the weekdays, "
             + "while the second argument represents operating hours in the weekends.";
+    public static final String MESSAGE_TIME_CONSTRAINTS = "Times are in the 24-hour format HHmm, e.g. 1400.";
     public static final String DEFAULT_OPERATING_HOURS = "-";
 
-    /** Ensures the time provided is valid and in the format hh:mm. */
-    public static final String TIME_VALIDATION_REGEX = "([01]?[0-9]|2[0-3])[0-5][0-9]";
+    /** Length of a time in the format HHmm. */
     public static final int TIME_LENGTH = 4;
 
+    /** The value of {@link #toPackedMinutes()} for operating hours that were not given. */
+    public static final long NO_PACKED_MINUTES = -1;
+
+    private static final short NO_TIME = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
     public final String value;
-    public final String weekdaysValue;
-    public final String weekendsValue;
+
+    private final short weekdaysOpening;
+    private final short weekdaysClosing;
+    private final short weekendsOpening;
+    private final short weekendsClosing;
 
     /**
      * Constructs an {@code OperatingHours}.
@@ -35,12 +53,18 @@ public class OperatingHours {
         value = operatingHours;
 
         if (operatingHours.equals(DEFAULT_OPERATING_HOURS)) {
-            weekdaysValue = DEFAULT_OPERATING_HOURS;
-            weekendsValue = DEFAULT_OPERATING_HOURS;
+            weekdaysOpening = NO_TIME;
+            weekdaysClosing = NO_TIME;
+            weekendsOpening = NO_TIME;
+            weekendsClosing = NO_TIME;
         } else {
-            String[] separatedOperatingHours = operatingHours.split(",", 2);
-            weekdaysValue = separatedOperatingHours[0].trim();
-            weekendsValue = separatedOperatingHours[1].trim();
+            int separator = operatingHours.indexOf(',');
+            int weekdays = parseOperatingHour(operatingHours, 0, separator);
+            int weekends = parseOperatingHour(operatingHours, separator + 1, operatingHours.length());
+            weekdaysOpening = openingOf(weekdays);
+            weekdaysClosing = closingOf(weekdays);
+            weekendsOpening = openingOf(weekends);
+            weekendsClosing = closingOf(weekends);
         }
 
     }
@@ -50,8 +74,68 @@ public class OperatingHours {
      */
     private OperatingHours() {
         value = DEFAULT_OPERATING_HOURS;
-        weekdaysValue = DEFAULT_OPERATING_HOURS;
-        weekendsValue = DEFAULT_OPERATING_HOURS;
+        weekdaysOpening = NO_TIME;
+        weekdaysClosing = NO_TIME;
+        weekendsOpening = NO_TIME;
+        weekendsClosing = NO_TIME;
+    }
+
+    private OperatingHours(short weekdaysOpening, short weekdaysClosing, short weekendsOpening,
+            short weekendsClosing) {
+        this.weekdaysOpening = weekdaysOpening;
+        this.weekdaysClosing = weekdaysClosing;
+        this.weekendsOpening = weekendsOpening;
+        this.weekendsClosing = weekendsClosing;
+        this.value = formatOperatingHour(weekdaysOpening, weekdaysClosing) + ", "
+                + formatOperatingHour(weekendsOpening, weekendsClosing);
+    }
+
+    /**
+     * Returns the operating hours with the opening and closing minutes packed by {@link #toPackedMinutes()},
+     * with its value in the format {@code HHmm-HHmm, HHmm-HHmm}.
+     *
+     * @param packedMinutes Valid packed minutes.
+     */
+    public static OperatingHours fromPackedMinutes(long packedMinutes) {
+        checkArgument(isValidPackedMinutes(packedMinutes), MESSAGE_CONSTRAINTS);
+        if (packedMinutes == NO_PACKED_MINUTES) {
+            return emptyOperatingHours();
+        }
+        return new OperatingHours(minutesAt(packedMinutes, 3), minutesAt(packedMinutes, 2),
+                minutesAt(packedMinutes, 1), minutesAt(packedMinutes, 0));
+    }
+
+    /**
+     * Returns true if {@code test} is {@link #NO_PACKED_MINUTES} or packs four valid times of the day.
+     */
+    public static boolean isValidPackedMinutes(long test) {
+        if (test == NO_PACKED_MINUTES) {
+            return true;
+        }
+        for (int i = 0; i < 4; i++) {
+            int minutes = minutesAt(test, i);
+            if (minutes < 0 || minutes >= MINUTES_PER_DAY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static short minutesAt(long packedMinutes, int field) {
+        return (short) (packedMinutes >>> (16 * field));
+    }
+
+    /**
+     * Returns the weekdays opening, weekdays closing, weekends opening and weekends closing minutes packed
+     * 16 bits each from the most significant bits, or {@link #NO_PACKED_MINUTES} if no operating hours were given.
+     * The value of operating hours created from the packed minutes may be formatted differently from this value.
+     */
+    public long toPackedMinutes() {
+        if (!hasOperatingHours()) {
+            return NO_PACKED_MINUTES;
+        }
+        return (long) weekdaysOpening << 48 | (long) weekdaysClosing << 32 | (long) weekendsOpening << 16
+                | weekendsClosing;
     }
 
     /**
@@ -62,43 +146,164 @@ public class OperatingHours {
             return true;
         }
 
-        String[] separatedOperatingHours = test.split(",", 2);
-        if (separatedOperatingHours.length == 1) {
+        int separator = test.indexOf(',');
+        if (separator == -1) {
             return false;
         }
-        return isValidOperatingHour(separatedOperatingHours[0].trim())
-                && isValidOperatingHour(separatedOperatingHours[1].trim());
+        return parseOperatingHour(test, 0, separator) != -1
+                && parseOperatingHour(test, separator + 1, test.length()) != -1;
+    }
+
+    /**
+     * Returns true if a given string is a valid time in the format HHmm.
+     */
+    public static boolean isValidTime(String test) {
+        requireNonNull(test);
+        return parseTime(test, 0, test.length()) != -1;
+    }
+
+    /**
+     * Returns true if operating hours were given.
+     */
+    public boolean hasOperatingHours() {
+        return weekdaysOpening != NO_TIME;
     }
 
-    private static boolean isValidOperatingHour(String test) {
-        String[] separatedOperatingHour = test.split("-", 2);
-        if (separatedOperatingHour.length == 1) {
+    /**
+     * Returns true if the study spot is open at {@code time} on {@code day}.
+     * This includes the hours after midnight of a study spot that opened on the previous day.
+     * Returns false if no operating hours were given.
+     */
+    public boolean isOpenAt(DayOfWeek day, LocalTime time) {
+        requireAllNonNull(day, time);
+        if (!hasOperatingHours()) {
             return false;
         }
 
-        String openingHours = separatedOperatingHour[0].trim();
-        String closingHours = separatedOperatingHour[1].trim();
-        return openingHours.length() == TIME_LENGTH
-                && openingHours.matches(TIME_VALIDATION_REGEX)
-                && closingHours.length() == TIME_LENGTH
-                && closingHours.matches(TIME_VALIDATION_REGEX);
+        int minute = time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+        DayOfWeek previousDay = day.minus(1);
+        return isOpenSinceOpening(openingOn(day), closingOn(day), minute)
+                || isOpenBeforeClosing(openingOn(previousDay), closingOn(previousDay), minute);
+    }
+
+    /**
+     * Returns true if {@code minute} falls between the opening time and midnight or the closing time.
+     */
+    private static boolean isOpenSinceOpening(short opening, short closing, int minute) {
+        if (opening == closing) {
+            return true;
+        }
+        return minute >= opening && (opening > closing || minute < closing);
+    }
+
+    /**
+     * Returns true if {@code minute} falls in the hours after midnight of a study spot that closes after midnight.
+     */
+    private static boolean isOpenBeforeClosing(short opening, short closing, int minute) {
+        return opening > closing && minute < closing;
+    }
+
+    private short openingOn(DayOfWeek day) {
+        return isWeekend(day) ? weekendsOpening : weekdaysOpening;
+    }
+
+    private short closingOn(DayOfWeek day) {
+        return isWeekend(day) ? weekendsClosing : weekdaysClosing;
+    }
+
+    private static boolean isWeekend(DayOfWeek day) {
+        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * Parses the operating hour {@code HHmm-HHmm} between {@code from} and {@code to}, ignoring surrounding spaces.
+     *
+     * @return the opening and closing minutes packed as {@code opening << 16 | closing}, or -1 if invalid.
+     */
+    private static int parseOperatingHour(String test, int from, int to) {
+        int separator = test.indexOf('-', from);
+        if (separator == -1 || separator >= to) {
+            return -1;
+        }
+
+        int opening = parseTime(test, from, separator);
+        int closing = parseTime(test, separator + 1, to);
+        if (opening == -1 || closing == -1) {
+            return -1;
+        }
+        return opening << 16 | closing;
+    }
+
+    /**
+     * Parses the time {@code HHmm} between {@code from} and {@code to}, ignoring surrounding spaces.
+     *
+     * @return the minutes since midnight, or -1 if invalid.
+     */
+    private static int parseTime(String test, int from, int to) {
+        while (from < to && test.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && test.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (to - from != TIME_LENGTH) {
+            return -1;
+        }
+
+        int hourTens = digitAt(test, from);
+        int hourOnes = digitAt(test, from + 1);
+        int minuteTens = digitAt(test, from + 2);
+        int minuteOnes = digitAt(test, from + 3);
+        if (hourTens == -1 || hourOnes == -1 || minuteTens == -1 || minuteOnes == -1) {
+            return -1;
+        }
+
+        int hour = hourTens * 10 + hourOnes;
+        if (hour > 23 || minuteTens > 5) {
+            return -1;
+        }
+        return hour * MINUTES_PER_HOUR + minuteTens * 10 + minuteOnes;
+    }
+
+    private static int digitAt(String test, int index) {
+        char c = test.charAt(index);
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static short openingOf(int operatingHour) {
+        return (short) (operatingHour >>> 16);
+    }
+
+    private static short closingOf(int operatingHour) {
+        return (short) (operatingHour & 0xFFFF);
+    }
+
+    private static String formatOperatingHour(short opening, short closing) {
+        return formatTime(opening) + "-" + formatTime(closing);
+    }
+
+    private static String formatTime(short minutes) {
+        int hour = minutes / MINUTES_PER_HOUR;
+        int minute = minutes % MINUTES_PER_HOUR;
+        return new String(new char[] {
+            (char) ('0' + hour / 10), (char) ('0' + hour % 10), (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+        });
     }
 
     @Override
     public String toString() {
-        if (value.equals(DEFAULT_OPERATING_HOURS)) {
+        if (!hasOperatingHours()) {
             return DEFAULT_OPERATING_HOURS;
         }
-        return "Weekdays: " + weekdaysValue + ", Weekends: " + weekendsValue;
+        return "Weekdays: " + formatOperatingHour(weekdaysOpening, weekdaysClosing)
+                + ", Weekends: " + formatOperatingHour(weekendsOpening, weekendsClosing);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof OperatingHours // instanceof handles nulls
-                && value.equals(((OperatingHours) other).value) // state check
-                && weekdaysValue.equals(((OperatingHours) other).weekdaysValue)
-                && weekendsValue.equals(((OperatingHours) other).weekendsValue));
+                && value.equals(((OperatingHours) other).value)); // state check
     }
 
     @Override
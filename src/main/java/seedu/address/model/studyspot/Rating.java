@@ -13,6 +13,11 @@ public class Rating {
     public static final String MESSAGE_CONSTRAINTS =
             "Ratings should only contain numbers, and it should only be a digit from 1 to 5";
     public static final String VALIDATION_REGEX = "^[0-5]$";
+
+    private static final Rating[] RATINGS_BY_VALUE = {
+        new Rating("0"), new Rating("1"), new Rating("2"), new Rating("3"), new Rating("4"), new Rating("5")
+    };
+
     public final String value;
 
     /**
@@ -26,11 +31,23 @@ public class Rating {
         value = rating;
     }
 
+    /**
+     * Returns the shared {@code Rating} with the given value.
+     *
+     * @param rating A valid rating number.
+     */
+    public static Rating of(String rating) {
+        requireNonNull(rating);
+        checkArgument(isValidRating(rating), MESSAGE_CONSTRAINTS);
+        return RATINGS_BY_VALUE[rating.charAt(0) - '0'];
+    }
+
     /**
      * Returns true if a given string is a valid rating.
      */
     public static boolean isValidRating(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // A single digit from 0 to 5, checked directly as it is too simple to need the regex engine
+        return test.length() == 1 && test.charAt(0) >= '0' && test.charAt(0) <= '5';
     }
 
     @Override
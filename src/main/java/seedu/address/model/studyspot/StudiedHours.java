@@ -43,7 +43,17 @@ public class StudiedHours {
      */
     public static boolean isValidLoggedHours(String str) {
         requireNonNull(str);
-        return str.matches(VALIDATION_REGEX);
+        // Digits only, checked directly as it is too simple to need the regex engine
+        if (str.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
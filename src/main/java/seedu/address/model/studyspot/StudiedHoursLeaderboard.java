@@ -0,0 +1,155 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Ranks study spots by their studied hours and keeps a live list of the top {@code size} study spots.
+ * Study spots with equal studied hours are ranked in the order they entered the leaderboard.
+ *
+ * The ranking is updated incrementally as study spots are added, replaced and removed, so that the
+ * top study spots never have to be recomputed from the full list of study spots.
+ * Study spots are identified by their name, as in {@link UniqueStudySpotList}.
+ */
+public class StudiedHoursLeaderboard {
+
+    public static final String MESSAGE_CONSTRAINTS = "Leaderboard size should be a positive integer";
+
+    private static final Comparator<Entry> RANKING_ORDER = Comparator.<Entry>comparingInt(entry -> entry.hours)
+            .reversed()
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final int size;
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANKING_ORDER);
+    private final Map<String, Entry> nameToEntry = new HashMap<>();
+    private final ObservableList<StudySpot> topStudySpots = FXCollections.observableArrayList();
+    private final ObservableList<StudySpot> topStudySpotsUnmodifiable =
+            FXCollections.unmodifiableObservableList(topStudySpots);
+    private long nextSequence = 0;
+
+    /**
+     * Constructs an empty {@code StudiedHoursLeaderboard} that lists at most {@code size} study spots.
+     */
+    public StudiedHoursLeaderboard(int size) {
+        checkArgument(size > 0, MESSAGE_CONSTRAINTS);
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Adds {@code toAdd} to the ranking.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        insert(toAdd, nextSequence++);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Replaces {@code target} in the ranking with {@code editedStudySpot}.
+     * {@code editedStudySpot} keeps the position of {@code target} among study spots with equal studied hours.
+     */
+    public void replace(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        Entry targetEntry = detach(target);
+        insert(editedStudySpot, targetEntry == null ? nextSequence++ : targetEntry.sequence);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Removes {@code toRemove} from the ranking, if present.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        detach(toRemove);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Replaces the ranking with one built from {@code studySpots}.
+     */
+    public void reset(List<StudySpot> studySpots) {
+        requireAllNonNull(studySpots);
+        ranking.clear();
+        nameToEntry.clear();
+        for (StudySpot studySpot : studySpots) {
+            insert(studySpot, nextSequence++);
+        }
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Returns the top study spots, ordered from most to least studied hours, as an unmodifiable
+     * {@code ObservableList} that is updated in place as the ranking changes.
+     */
+    public ObservableList<StudySpot> asUnmodifiableObservableList() {
+        return topStudySpotsUnmodifiable;
+    }
+
+    private void insert(StudySpot studySpot, long sequence) {
+        Entry entry = new Entry(studySpot, sequence);
+        Entry replaced = nameToEntry.put(studySpot.getName().getCaseInsensitiveKey(), entry);
+        if (replaced != null) {
+            ranking.remove(replaced);
+        }
+        ranking.add(entry);
+    }
+
+    private Entry detach(StudySpot studySpot) {
+        Entry entry = nameToEntry.remove(studySpot.getName().getCaseInsensitiveKey());
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Brings the observable top study spots in line with the head of the ranking.
+     * Only positions whose study spot actually changed are written, so listeners see minimal changes.
+     */
+    private void refreshTopStudySpots() {
+        Iterator<Entry> iterator = ranking.iterator();
+        int position = 0;
+        while (position < size && iterator.hasNext()) {
+            StudySpot studySpot = iterator.next().studySpot;
+            if (position == topStudySpots.size()) {
+                topStudySpots.add(studySpot);
+            } else if (topStudySpots.get(position) != studySpot) {
+                topStudySpots.set(position, studySpot);
+            }
+            position++;
+        }
+        if (position < topStudySpots.size()) {
+            topStudySpots.remove(position, topStudySpots.size());
+        }
+    }
+
+    /**
+     * A study spot in the ranking, with its studied hours and the order it entered the leaderboard.
+     */
+    private static class Entry {
+        private final StudySpot studySpot;
+        private final int hours;
+        private final long sequence;
+
+        Entry(StudySpot studySpot, long sequence) {
+            this.studySpot = studySpot;
+            this.hours = studySpot.getStudiedHours().getHours();
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps running totals of the hours studied at study spots: overall, per tag and per amenity.
+ *
+ * The totals are adjusted as study spots are added, replaced and removed, so that reading them never
+ * requires summing over every study spot. Only tags and amenities of study spots with studied hours
+ * have a subtotal.
+ */
+public class StudiedHoursStatistics {
+
+    private final ReadOnlyLongWrapper totalStudiedHours = new ReadOnlyLongWrapper(0);
+    private final ObservableMap<Tag, Long> studiedHoursByTag = FXCollections.observableHashMap();
+    private final ObservableMap<Amenity, Long> studiedHoursByAmenity = FXCollections.observableHashMap();
+    private final ObservableMap<Tag, Long> studiedHoursByTagUnmodifiable =
+            FXCollections.unmodifiableObservableMap(studiedHoursByTag);
+    private final ObservableMap<Amenity, Long> studiedHoursByAmenityUnmodifiable =
+            FXCollections.unmodifiableObservableMap(studiedHoursByAmenity);
+
+    /**
+     * Counts the studied hours of {@code toAdd}.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        adjust(toAdd, toAdd.getStudiedHours().getHours());
+    }
+
+    /**
+     * Replaces the studied hours counted for {@code target} with those of {@code editedStudySpot}.
+     */
+    public void replace(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        if (target.getStudiedHours().equals(editedStudySpot.getStudiedHours())
+                && target.getTags().equals(editedStudySpot.getTags())
+                && target.getAmenityMask() == editedStudySpot.getAmenityMask()) {
+            return;
+        }
+
+        adjust(target, -target.getStudiedHours().getHours());
+        adjust(editedStudySpot, editedStudySpot.getStudiedHours().getHours());
+    }
+
+    /**
+     * Stops counting the studied hours of {@code toRemove}.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        adjust(toRemove, -toRemove.getStudiedHours().getHours());
+    }
+
+    /**
+     * Recounts all totals from {@code studySpots}.
+     */
+    public void reset(List<StudySpot> studySpots) {
+        requireAllNonNull(studySpots);
+        studiedHoursByTag.clear();
+        studiedHoursByAmenity.clear();
+
+        long total = 0;
+        for (StudySpot studySpot : studySpots) {
+            int hours = studySpot.getStudiedHours().getHours();
+            total += hours;
+            adjustSubtotals(studySpot, hours);
+        }
+        totalStudiedHours.set(total);
+    }
+
+    /**
+     * Returns the total hours studied across all study spots.
+     */
+    public ReadOnlyLongProperty totalStudiedHoursProperty() {
+        return totalStudiedHours.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the hours studied at study spots with each tag.
+     */
+    public ObservableMap<Tag, Long> getStudiedHoursByTag() {
+        return studiedHoursByTagUnmodifiable;
+    }
+
+    /**
+     * Returns an unmodifiable view of the hours studied at study spots with each amenity.
+     */
+    public ObservableMap<Amenity, Long> getStudiedHoursByAmenity() {
+        return studiedHoursByAmenityUnmodifiable;
+    }
+
+    private void adjust(StudySpot studySpot, long hours) {
+        if (hours == 0) {
+            return;
+        }
+        totalStudiedHours.set(totalStudiedHours.get() + hours);
+        adjustSubtotals(studySpot, hours);
+    }
+
+    private void adjustSubtotals(StudySpot studySpot, long hours) {
+        if (hours == 0) {
+            return;
+        }
+        for (Tag tag : studySpot.getTags()) {
+            studiedHoursByTag.merge(tag, hours, StudiedHoursStatistics::sumOrRemove);
+        }
+        for (Amenity amenity : studySpot.getAmenities()) {
+            studiedHoursByAmenity.merge(amenity, hours, StudiedHoursStatistics::sumOrRemove);
+        }
+    }
+
+    /**
+     * Returns the sum of both subtotals, or null so that the entry is dropped once no hours remain.
+     */
+    private static Long sumOrRemove(Long subtotal, Long hours) {
+        long sum = subtotal + hours;
+        return sum == 0 ? null : sum;
+    }
+}
@@ -25,7 +25,7 @@ public class StudySpot {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final Set<Amenity> amenities = new HashSet<>();
+    private final int amenities;
 
     //Statistic fields
     private final StudiedHours studiedHours;
@@ -42,7 +42,7 @@ public class StudySpot {
         this.address = address;
         this.studiedHours = studiedHours;
         this.tags.addAll(tags);
-        this.amenities.addAll(amenities);
+        this.amenities = Amenity.toMask(amenities);
         this.favourite = new Favourite(false);
     }
 
@@ -59,7 +59,7 @@ public class StudySpot {
         this.address = address;
         this.studiedHours = studiedHours;
         this.tags.addAll(tags);
-        this.amenities.addAll(amenities);
+        this.amenities = Amenity.toMask(amenities);
         this.favourite = favourite;
     }
 
@@ -105,7 +105,21 @@ public class StudySpot {
      * if modification is attempted.
      */
     public Set<Amenity> getAmenities() {
-        return Collections.unmodifiableSet(amenities);
+        return Amenity.fromMask(amenities);
+    }
+
+    /**
+     * Returns the amenities of this study spot as a mask of {@link Amenity#getMask()} bits.
+     */
+    public int getAmenityMask() {
+        return amenities;
+    }
+
+    /**
+     * Returns true if this study spot has every amenity in {@code amenityMask}.
+     */
+    public boolean hasAmenities(int amenityMask) {
+        return (amenities & amenityMask) == amenityMask;
     }
 
     /**
@@ -118,7 +132,7 @@ public class StudySpot {
         }
 
         return otherSpot != null
-                && otherSpot.getName().toString().equalsIgnoreCase(getName().toString());
+                && otherSpot.getName().isSameNameCaseInsensitive(getName());
     }
 
     /**
@@ -142,7 +156,7 @@ public class StudySpot {
                 && otherStudySpot.getAddress().equals(getAddress())
                 && otherStudySpot.getFavourite().equals(getFavourite())
                 && otherStudySpot.getTags().equals(getTags())
-                && otherStudySpot.getAmenities().equals(getAmenities());
+                && otherStudySpot.getAmenityMask() == getAmenityMask();
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tags and ratings to the study spots that have them.
+ * Study spots are recorded by their case-insensitive name key, which identifies them uniquely in a study tracker.
+ * Amenities are not indexed, as they are matched directly against each study spot's amenity mask.
+ *
+ * A query probes one posting set per requested value for the study spot asked about, so it costs a few hash
+ * lookups no matter how many tags the study spot has or how many study spots share them.
+ * The index must be updated before the study spot list changes, as views of the list query it on every change.
+ */
+public class StudySpotAttributeIndex {
+
+    private final Map<Tag, Set<String>> tagPostings = new HashMap<>();
+    private final Map<Rating, Set<String>> ratingPostings = new HashMap<>();
+
+    /**
+     * Records the tags and rating of {@code toAdd}.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        String key = toAdd.getName().getCaseInsensitiveKey();
+        for (Tag tag : toAdd.getTags()) {
+            tagPostings.computeIfAbsent(tag, unused -> new HashSet<>()).add(key);
+        }
+        ratingPostings.computeIfAbsent(toAdd.getRating(), unused -> new HashSet<>()).add(key);
+    }
+
+    /**
+     * Replaces the recorded attributes of {@code target} with those of {@code editedStudySpot}.
+     */
+    public void replace(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        if (target.getName().equals(editedStudySpot.getName())
+                && target.getRating().equals(editedStudySpot.getRating())
+                && target.getTags().equals(editedStudySpot.getTags())) {
+            return;
+        }
+        remove(target);
+        add(editedStudySpot);
+    }
+
+    /**
+     * Removes the recorded attributes of {@code toRemove}.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        String key = toRemove.getName().getCaseInsensitiveKey();
+        for (Tag tag : toRemove.getTags()) {
+            removePosting(tagPostings, tag, key);
+        }
+        removePosting(ratingPostings, toRemove.getRating(), key);
+    }
+
+    /**
+     * Rebuilds the index from {@code studySpots}.
+     */
+    public void reset(List<StudySpot> studySpots) {
+        requireAllNonNull(studySpots);
+        tagPostings.clear();
+        ratingPostings.clear();
+        for (StudySpot studySpot : studySpots) {
+            add(studySpot);
+        }
+    }
+
+    /**
+     * Returns true if the study spot named {@code name} currently has all of {@code tags} and {@code rating}.
+     * A null or empty argument places no constraint on that attribute.
+     * The posting sets are looked up on every call, so the answer follows every change made to the index.
+     */
+    public boolean hasAttributes(Name name, Set<Tag> tags, Rating rating) {
+        requireNonNull(name);
+        String key = name.getCaseInsensitiveKey();
+        if (rating != null && !ratingPostings.getOrDefault(rating, Collections.emptySet()).contains(key)) {
+            return false;
+        }
+        if (tags != null) {
+            for (Tag tag : tags) {
+                if (!tagPostings.getOrDefault(tag, Collections.emptySet()).contains(key)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static <T> void removePosting(Map<T, Set<String>> postings, T value, String key) {
+        Set<String> keys = postings.get(value);
+        if (keys == null) {
+            return;
+        }
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.studyspot;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,9 @@ import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
  * However, the removal of a study spot uses StudySpot#equals(Object) so as to ensure that
  * the study spot with exactly the same fields will be removed.
  *
+ * Alongside the backing list, a case-folded name to position index is maintained, so that checking for,
+ * looking up and replacing a study spot by its identity does not require a scan of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see StudySpot#isSameStudySpot(StudySpot)
@@ -28,13 +34,24 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     private final ObservableList<StudySpot> internalList = FXCollections.observableArrayList();
     private final ObservableList<StudySpot> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Integer> nameToIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent study spot as the given argument.
      */
     public boolean contains(StudySpot toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudySpot);
+        return nameToIndex.containsKey(toKey(toCheck.getName()));
+    }
+
+    /**
+     * Returns the study spot in the list with the same identity as the given {@code name}.
+     * Otherwise, returns null.
+     */
+    public StudySpot get(Name name) {
+        requireNonNull(name);
+        Integer index = nameToIndex.get(toKey(name));
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -46,6 +63,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
         if (contains(toAdd)) {
             throw new DuplicateStudySpotException();
         }
+        nameToIndex.put(toKey(toAdd.getName()), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -58,7 +76,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
         requireAllNonNull(target, editedStudySpot);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudySpotNotFoundException();
         }
@@ -67,6 +85,8 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
             throw new DuplicateStudySpotException();
         }
 
+        nameToIndex.remove(toKey(target.getName()));
+        nameToIndex.put(toKey(editedStudySpot.getName()), index);
         internalList.set(index, editedStudySpot);
     }
 
@@ -76,13 +96,23 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
      */
     public void remove(StudySpot toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudySpotNotFoundException();
         }
+
+        nameToIndex.remove(toKey(toRemove.getName()));
+        internalList.remove(index);
+        // positions after the removed study spot have shifted down by one
+        for (int i = index; i < internalList.size(); i++) {
+            nameToIndex.put(toKey(internalList.get(i).getName()), i);
+        }
     }
 
     public void setStudySpots(UniqueStudySpotList replacement) {
         requireNonNull(replacement);
+        nameToIndex.clear();
+        nameToIndex.putAll(replacement.nameToIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,10 +122,14 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
      */
     public void setStudySpots(List<StudySpot> studySpots) {
         requireAllNonNull(studySpots);
-        if (!studySpotsAreUnique(studySpots)) {
-            throw new DuplicateStudySpotException();
+        Map<String, Integer> replacementIndex = new HashMap<>(studySpots.size() * 2);
+        List<StudySpot> duplicates = findDuplicates(studySpots, replacementIndex);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateStudySpotException(duplicates);
         }
 
+        nameToIndex.clear();
+        nameToIndex.putAll(replacementIndex);
         internalList.setAll(studySpots);
     }
 
@@ -108,7 +142,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
 
     @Override
     public Iterator<StudySpot> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -124,16 +158,37 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     }
 
     /**
-     * Returns true if {@code studySpots} contains only unique study spots.
+     * Returns the position of the study spot in the list that is equal to {@code studySpot}, or -1 if there is none.
+     * Only the study spot sharing its identity can be equal to it, so a single index probe suffices.
+     */
+    private int indexOf(StudySpot studySpot) {
+        Integer index = nameToIndex.get(toKey(studySpot.getName()));
+        if (index == null || !internalList.get(index).equals(studySpot)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the key under which a study spot with the given {@code name} is indexed.
+     * Keys are case-folded, in line with {@code StudySpot#isSameStudySpot(StudySpot)}.
+     */
+    private static String toKey(Name name) {
+        return name.getCaseInsensitiveKey();
+    }
+
+    /**
+     * Returns every study spot in {@code studySpots} that has the same identity as an earlier one, in a single pass.
+     * The position of the first study spot of each identity is recorded in {@code index}.
      */
-    private boolean studySpotsAreUnique(List<StudySpot> studySpots) {
-        for (int i = 0; i < studySpots.size() - 1; i++) {
-            for (int j = i + 1; j < studySpots.size(); j++) {
-                if (studySpots.get(i).isSameStudySpot(studySpots.get(j))) {
-                    return false;
-                }
+    private static List<StudySpot> findDuplicates(List<StudySpot> studySpots, Map<String, Integer> index) {
+        List<StudySpot> duplicates = new ArrayList<>();
+        for (int i = 0; i < studySpots.size(); i++) {
+            StudySpot studySpot = studySpots.get(i);
+            if (index.putIfAbsent(toKey(studySpot.getName()), i) != null) {
+                duplicates.add(studySpot);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,36 @@
 package seedu.address.model.studyspot.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.studyspot.StudySpot;
+
 /**
  * Signals that the operation will result in duplicate StudySpots
  * (StudySpots are considered duplicates if they have the same identity).
  */
 public class DuplicateStudySpotException extends RuntimeException {
+
+    private final List<StudySpot> duplicates;
+
     public DuplicateStudySpotException() {
         super("Operation would result in duplicate StudySpots");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateStudySpotException} reporting every study spot in {@code duplicates}.
+     */
+    public DuplicateStudySpotException(List<StudySpot> duplicates) {
+        super("Operation would result in duplicate StudySpots");
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the study spots whose identity clashed with an earlier study spot, in encounter order.
+     * Empty if the offending study spots were not recorded.
+     */
+    public List<StudySpot> getDuplicates() {
+        return duplicates;
     }
 }
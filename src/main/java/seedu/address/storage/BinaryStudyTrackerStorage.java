@@ -0,0 +1,412 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.studyspot.Address;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.OperatingHours;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access StudyTracker data stored as a binary snapshot on the hard disk.
+ *
+ * The whole file is read into one buffer and the study spots are decoded from it directly. Strings are decoded
+ * and validated only once each, when a study spot first refers to them.
+ *
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of the distinct strings
+ * of all study spots and then the study spots themselves. Strings are stored once as length-prefixed UTF-8 and
+ * are referred to by their index in the table, so names, addresses and tags that repeat cost four bytes each.
+ * Ratings, studied hours and operating hours are stored as numbers, and amenities and the favourite flag as
+ * bits, so reading a study spot needs neither reflection nor number parsing.
+ */
+public class BinaryStudyTrackerStorage implements StudyTrackerStorage {
+
+    /** The first four bytes of every binary data file, {@code STBF} in ASCII. */
+    public static final int MAGIC = 0x53544246;
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_INVALID_HEADER = "File is not a StudyTracker binary data file!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported!";
+    public static final String MESSAGE_INVALID_COUNT = "Binary data file has an invalid %s count!";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Binary data file refers to missing string %d!";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Binary data file %s is too large to be read!";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudyTrackerStorage.class);
+
+    private static final int FLAG_FAVOURITE = 1;
+    /** Set if the operating hours are stored as packed minutes rather than as a string. */
+    private static final int FLAG_PACKED_OPERATING_HOURS = 1 << 1;
+    /** The size of a study spot with operating hours stored as a string and no tags. */
+    private static final int MIN_STUDY_SPOT_BYTES = 4 + 4 + 1 + 4 + 1 + 4 + 1 + 4;
+
+    private final Path filePath;
+
+    public BinaryStudyTrackerStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getStudyTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker() throws DataConversionException, IOException {
+        return readStudyTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudyTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(readFile(filePath)));
+        } catch (BufferUnderflowException bue) {
+            logger.warning("Binary file " + filePath + " ends unexpectedly");
+            throw new DataConversionException(bue);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns a buffer with the whole content of the file at {@code filePath}, read with a single channel.
+     */
+    private static ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_FILE_TOO_LARGE, filePath));
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    break;
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+        saveStudyTracker(studyTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudyTracker(ReadOnlyStudyTracker)}.
+     * The previous content of the file is kept at {@link FileUtil#getBackupPath(Path)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
+        requireNonNull(studyTracker);
+        requireNonNull(filePath);
+
+        List<StudySpot> studySpots = new ArrayList<>(studyTracker.getStudySpotList());
+        FileUtil.backUp(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> encode(new DataOutputStream(out), studySpots));
+    }
+
+    /**
+     * Writes the header, string table and {@code studySpots} to {@code out}.
+     */
+    private static void encode(DataOutputStream out, List<StudySpot> studySpots) throws IOException {
+        Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        Map<OperatingHours, Boolean> packability = new HashMap<>();
+        for (StudySpot studySpot : studySpots) {
+            stringIndices.putIfAbsent(studySpot.getName().fullName, stringIndices.size());
+            stringIndices.putIfAbsent(studySpot.getAddress().value, stringIndices.size());
+            OperatingHours operatingHours = studySpot.getOperatingHours();
+            if (!packability.computeIfAbsent(operatingHours, BinaryStudyTrackerStorage::isPackable)) {
+                stringIndices.putIfAbsent(operatingHours.value, stringIndices.size());
+            }
+            for (Tag tag : studySpot.getTags()) {
+                stringIndices.putIfAbsent(tag.tagName, stringIndices.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(studySpots.size());
+        for (StudySpot studySpot : studySpots) {
+            OperatingHours operatingHours = studySpot.getOperatingHours();
+            boolean isPacked = packability.get(operatingHours);
+            int flags = (studySpot.isFavourite() ? FLAG_FAVOURITE : 0) | (isPacked ? FLAG_PACKED_OPERATING_HOURS : 0);
+
+            out.writeInt(stringIndices.get(studySpot.getName().fullName));
+            out.writeInt(stringIndices.get(studySpot.getAddress().value));
+            out.writeByte(studySpot.getRating().value.charAt(0) - '0');
+            out.writeInt(studySpot.getStudiedHours().getHours());
+            out.writeByte(flags);
+            if (isPacked) {
+                out.writeLong(operatingHours.toPackedMinutes());
+            } else {
+                out.writeInt(stringIndices.get(operatingHours.value));
+            }
+            out.writeByte(studySpot.getAmenityMask());
+            out.writeInt(studySpot.getTags().size());
+            for (Tag tag : studySpot.getTags()) {
+                out.writeInt(stringIndices.get(tag.tagName));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns true if {@code operatingHours} can be stored as packed minutes without changing its value.
+     */
+    private static boolean isPackable(OperatingHours operatingHours) {
+        return OperatingHours.fromPackedMinutes(operatingHours.toPackedMinutes()).equals(operatingHours);
+    }
+
+    /**
+     * Reads a study tracker written by {@link #encode(DataOutputStream, List)} from {@code buffer}.
+     *
+     * @throws IllegalValueException if the header is invalid or there were any data constraints violated.
+     * @throws BufferUnderflowException if {@code buffer} ends before the study tracker does.
+     */
+    private static StudyTracker decode(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER);
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        StringTable strings = new StringTable(buffer);
+
+        int studySpotCount = readCount(buffer, "study spot", MIN_STUDY_SPOT_BYTES);
+        List<StudySpot> studySpots = new ArrayList<>(studySpotCount);
+        Map<Long, OperatingHours> packedOperatingHours = new HashMap<>();
+        for (int i = 0; i < studySpotCount; i++) {
+            studySpots.add(decodeStudySpot(buffer, strings, packedOperatingHours));
+        }
+
+        StudyTracker studyTracker = new StudyTracker();
+        try {
+            studyTracker.loadStudySpots(studySpots);
+        } catch (DuplicateStudySpotException dse) {
+            String duplicateNames = dse.getDuplicates().stream()
+                    .map(spot -> spot.getName().toString()).collect(Collectors.joining(", "));
+            throw new IllegalValueException(String.format(
+                    JsonSerializableStudyTracker.MESSAGE_DUPLICATE_STUDYSPOT_NAMES, duplicateNames));
+        }
+        return studyTracker;
+    }
+
+    /**
+     * Reads a study spot from {@code buffer}.
+     * Operating hours are shared through {@code packedOperatingHours}, as most study spots have the same few.
+     */
+    private static StudySpot decodeStudySpot(ByteBuffer buffer, StringTable strings,
+            Map<Long, OperatingHours> packedOperatingHours) throws IllegalValueException {
+        Name name = strings.getValue(buffer.getInt(), Name.class, BinaryStudyTrackerStorage::decodeName);
+        Address address = strings.getValue(buffer.getInt(), Address.class, BinaryStudyTrackerStorage::decodeAddress);
+
+        String rating = String.valueOf(buffer.get());
+        if (!Rating.isValidRating(rating)) {
+            throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
+        }
+
+        String studiedHours = String.valueOf(buffer.getInt());
+        if (!StudiedHours.isValidLoggedHours(studiedHours)) {
+            throw new IllegalValueException(StudiedHours.MESSAGE_CONSTRAINTS);
+        }
+
+        int flags = buffer.get();
+        OperatingHours operatingHours;
+        if ((flags & FLAG_PACKED_OPERATING_HOURS) != 0) {
+            long packedMinutes = buffer.getLong();
+            operatingHours = packedOperatingHours.get(packedMinutes);
+            if (operatingHours == null) {
+                operatingHours = decodePackedOperatingHours(packedMinutes);
+                packedOperatingHours.put(packedMinutes, operatingHours);
+            }
+        } else {
+            operatingHours = strings.getValue(buffer.getInt(), OperatingHours.class,
+                    BinaryStudyTrackerStorage::decodeOperatingHours);
+        }
+
+        int amenityMask = buffer.get();
+        Set<Amenity> amenities;
+        try {
+            amenities = Amenity.fromMask(amenityMask);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(String.format(Amenity.MESSAGE_CONSTRAINTS,
+                    Amenity.listAllAmenityTypes(Amenity.VALID_TYPES)));
+        }
+
+        int tagCount = readCount(buffer, "tag", Integer.BYTES);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(strings.getValue(buffer.getInt(), Tag.class, BinaryStudyTrackerStorage::decodeTag));
+        }
+
+        return new StudySpot(name, Rating.of(rating), operatingHours, address, new StudiedHours(studiedHours),
+                new Favourite((flags & FLAG_FAVOURITE) != 0), tags, amenities);
+    }
+
+    private static Name decodeName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static Address decodeAddress(String address) throws IllegalValueException {
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        return new Address(address);
+    }
+
+    private static Tag decodeTag(String tagName) throws IllegalValueException {
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        if (!Tag.isValidTagLength(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_LENGTH);
+        }
+        return Tag.of(tagName);
+    }
+
+    private static OperatingHours decodePackedOperatingHours(long packedMinutes) throws IllegalValueException {
+        if (!OperatingHours.isValidPackedMinutes(packedMinutes)) {
+            throw new IllegalValueException(OperatingHours.MESSAGE_CONSTRAINTS);
+        }
+        return OperatingHours.fromPackedMinutes(packedMinutes);
+    }
+
+    private static OperatingHours decodeOperatingHours(String operatingHours) throws IllegalValueException {
+        if (!OperatingHours.isValidOperatingHours(operatingHours)) {
+            throw new IllegalValueException(OperatingHours.MESSAGE_CONSTRAINTS);
+        }
+        return new OperatingHours(operatingHours);
+    }
+
+    /**
+     * Reads a count of items that take at least {@code minItemBytes} each, so that a corrupted count is
+     * rejected before anything is allocated for the items.
+     */
+    private static int readCount(ByteBuffer buffer, String countedItem, int minItemBytes)
+            throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minItemBytes > buffer.remaining()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, countedItem));
+        }
+        return count;
+    }
+
+    /**
+     * Converts a string of the string table into a value object.
+     */
+    @FunctionalInterface
+    private interface ValueDecoder<T> {
+        T decode(String value) throws IllegalValueException;
+    }
+
+    /**
+     * The string table of a binary data file, which decodes and validates each string only when a study spot
+     * first refers to it. The value object decoded from a string is kept, so study spots that refer to the
+     * same address, tag or operating hours share one object.
+     */
+    private static class StringTable {
+        private final ByteBuffer buffer;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final Object[] values;
+
+        /**
+         * Reads the offsets of the strings of the string table that starts at the position of {@code buffer},
+         * and moves the position past the table.
+         */
+        StringTable(ByteBuffer buffer) throws IllegalValueException {
+            int count = readCount(buffer, "string", Integer.BYTES);
+            this.buffer = buffer;
+            this.offsets = new int[count];
+            this.lengths = new int[count];
+            this.values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                lengths[i] = readCount(buffer, "byte", 1);
+                offsets[i] = buffer.position();
+                buffer.position(offsets[i] + lengths[i]);
+            }
+        }
+
+        /**
+         * Returns the value of type {@code type} decoded from the string at {@code index}.
+         */
+        <T> T getValue(int index, Class<T> type, ValueDecoder<T> decoder) throws IllegalValueException {
+            if (index < 0 || index >= values.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+            }
+            if (type.isInstance(values[index])) {
+                return type.cast(values[index]);
+            }
+
+            byte[] bytes = new byte[lengths[index]];
+            ByteBuffer string = buffer.duplicate();
+            string.position(offsets[index]);
+            string.get(bytes);
+            T value = decoder.decode(new String(bytes, StandardCharsets.UTF_8));
+            values[index] = value;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+
+/**
+ * A class to access StudyTracker data stored as a json snapshot and a journal of changes to it.
+ *
+ * Saving appends one line per changed study spot to the journal, so the cost of a save grows with the size
+ * of the change rather than the size of the study tracker. All lines of a save are flushed to the disk together.
+ * Once the journal holds {@code compactionThreshold} entries, or a change cannot be expressed as entries,
+ * the whole study tracker is written as a new snapshot and the journal is started afresh.
+ *
+ * The journal starts with a marker holding the checksum of the snapshot it applies to. Before a new snapshot is
+ * written, a marker for it is appended to the journal. Only the entries after the last marker matching the
+ * snapshot are replayed, so a compaction interrupted on either side of writing the snapshot loses nothing.
+ */
+public class JournaledStudyTrackerStorage implements StudyTrackerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStudyTrackerStorage.class);
+    private static final String NO_SNAPSHOT_CHECKSUM = "none";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final JsonStudyTrackerStorage snapshotStorage;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final boolean isCompact;
+
+    /** The study spots as last read or saved, or null if the journal cannot be appended to yet. */
+    private List<StudySpot> savedStudySpots;
+    private String snapshotChecksum;
+    private boolean isJournalStarted;
+    private long journalLength;
+    private int journalEntryCount;
+
+    public JournaledStudyTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledStudyTrackerStorage} with its snapshot at {@code filePath}, that writes a new
+     * snapshot once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournaledStudyTrackerStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournaledStudyTrackerStorage} with its snapshot at {@code filePath}, that writes a new
+     * snapshot once the journal holds {@code compactionThreshold} entries.
+     * Snapshots are written on a single line if {@code isCompact} is true, or pretty-printed otherwise.
+     */
+    public JournaledStudyTrackerStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.snapshotStorage = new JsonStudyTrackerStorage(filePath, isCompact);
+        this.journalPath = getJournalFilePath(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getStudyTrackerFilePath() {
+        return snapshotStorage.getStudyTrackerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker() throws DataConversionException, IOException {
+        return readStudyTracker(getStudyTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readStudyTracker()}.
+     * The journal next to {@code filePath} is replayed onto the snapshot at {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyStudyTracker> snapshot = snapshotStorage.readStudyTracker(filePath);
+        String checksum = checksumOf(filePath);
+        Journal journal = readJournal(getJournalFilePath(filePath), checksum);
+        if (snapshot.isEmpty() && journal.entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<StudySpot> snapshotStudySpots = snapshot.isPresent() ? snapshot.get().getStudySpotList() : List.of();
+        Replay replay = new Replay(snapshotStudySpots);
+        StudyTracker studyTracker = new StudyTracker();
+        try {
+            for (JsonAdaptedJournalEntry entry : journal.entries) {
+                entry.applyTo(replay);
+            }
+            studyTracker.loadStudySpots(replay.getStudySpots());
+        } catch (IllegalValueException | DuplicateStudySpotException e) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(getStudyTrackerFilePath())) {
+            savedStudySpots = new ArrayList<>(studyTracker.getStudySpotList());
+            snapshotChecksum = checksum;
+            isJournalStarted = journal.isStarted;
+            journalLength = journal.length;
+            journalEntryCount = journal.entries.size();
+        }
+        return Optional.of(studyTracker);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} without replaying its journal.
+     * The journal is not appended to until a new snapshot is saved, so the entries left out are dropped then.
+     */
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTrackerSnapshot(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        return snapshotStorage.readStudyTracker(filePath);
+    }
+
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+        requireNonNull(studyTracker);
+
+        List<StudySpot> studySpots = new ArrayList<>(studyTracker.getStudySpotList());
+        if (savedStudySpots == null) {
+            compact(studyTracker, studySpots);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalEntry>> entries = createEntries(savedStudySpots, studySpots);
+        if (entries.isEmpty() || journalEntryCount + entries.get().size() > compactionThreshold) {
+            compact(studyTracker, studySpots);
+            return;
+        }
+
+        if (!entries.get().isEmpty()) {
+            appendToJournal(entries.get());
+        }
+        savedStudySpots = studySpots;
+    }
+
+    /**
+     * Similar to {@link #saveStudyTracker(ReadOnlyStudyTracker)}, but always writes a whole snapshot.
+     * Any journal of that snapshot is removed.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
+        requireNonNull(studyTracker);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getStudyTrackerFilePath())) {
+            compact(studyTracker, new ArrayList<>(studyTracker.getStudySpotList()));
+            return;
+        }
+        snapshotStorage.saveStudyTracker(studyTracker, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Writes {@code studyTracker} as the snapshot and starts a new journal.
+     */
+    private void compact(ReadOnlyStudyTracker studyTracker, List<StudySpot> studySpots) throws IOException {
+        JsonSerializableStudyTracker snapshot = new JsonSerializableStudyTracker(studyTracker);
+        String checksum = checksumOf(snapshot);
+        if (isJournalStarted) {
+            appendToJournal(List.of(JsonAdaptedJournalEntry.snapshot(checksum)));
+        }
+
+        Path filePath = getStudyTrackerFilePath();
+        FileUtil.backUp(filePath);
+        JsonUtil.saveJsonFile(snapshot, filePath, isCompact);
+        Files.deleteIfExists(journalPath);
+
+        savedStudySpots = studySpots;
+        snapshotChecksum = checksum;
+        isJournalStarted = false;
+        journalLength = 0;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Appends {@code entries} to the journal and forces them to the disk with a single flush.
+     * Anything after the last complete line of the journal, such as a line torn by a crash, is overwritten.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (!isJournalStarted) {
+            journalLength = 0;
+            appendLine(lines, JsonAdaptedJournalEntry.snapshot(snapshotChecksum));
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            appendLine(lines, entry);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        int byteCount = buffer.remaining();
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        isJournalStarted = true;
+        journalLength += byteCount;
+        journalEntryCount += entries.size();
+    }
+
+    private static void appendLine(StringBuilder lines, JsonAdaptedJournalEntry entry) throws IOException {
+        lines.append(JsonUtil.toCompactJsonString(entry)).append((char) LINE_SEPARATOR);
+    }
+
+    /**
+     * Reads the complete lines of the journal at {@code journalPath}.
+     * The journal is treated as empty if it is missing or if it applies to a snapshot other than the one
+     * with {@code snapshotChecksum}.
+     */
+    private static Journal readJournal(Path journalPath, String snapshotChecksum) throws DataConversionException,
+            IOException {
+        if (!Files.exists(journalPath)) {
+            return new Journal(List.of(), false, 0);
+        }
+
+        byte[] bytes = Files.readAllBytes(journalPath);
+        int length = bytes.length;
+        while (length > 0 && bytes[length - 1] != LINE_SEPARATOR) {
+            length--;
+        }
+        if (length < bytes.length) {
+            logger.warning("Ignoring incomplete last line of journal " + journalPath);
+        }
+
+        String[] lines = new String(bytes, 0, length, StandardCharsets.UTF_8).split("\n");
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(lines.length);
+        try {
+            for (String line : lines) {
+                if (!line.isEmpty()) {
+                    entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        int lastMarker = -1;
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).isSnapshot() && snapshotChecksum.equals(entries.get(i).getSnapshotChecksum())) {
+                lastMarker = i;
+            }
+        }
+        if (lastMarker == -1) {
+            logger.info("Ignoring journal " + journalPath + " as it does not apply to the current snapshot");
+            return new Journal(List.of(), false, 0);
+        }
+
+        return new Journal(entries.subList(lastMarker + 1, entries.size()), true, length);
+    }
+
+    private static String checksumOf(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return NO_SNAPSHOT_CHECKSUM;
+        }
+
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Returns the checksum of the file that {@code snapshot} would be saved as, without keeping its content.
+     */
+    private String checksumOf(JsonSerializableStudyTracker snapshot) throws IOException {
+        CRC32 crc = new CRC32();
+        try (OutputStream out = new CheckedOutputStream(OutputStream.nullOutputStream(), crc)) {
+            JsonUtil.writeJson(out, snapshot, isCompact);
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Returns the journal entries that turn {@code saved} into {@code current}, or an empty {@code Optional}
+     * if the change is not expressible as entries, such as when study spots were reordered.
+     */
+    static Optional<List<JsonAdaptedJournalEntry>> createEntries(List<StudySpot> saved, List<StudySpot> current) {
+        Set<String> savedKeys = keysOf(saved);
+        Set<String> currentKeys = keysOf(current);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        while (i < saved.size() && j < current.size()) {
+            StudySpot before = saved.get(i);
+            StudySpot after = current.get(j);
+            boolean isBeforeKept = currentKeys.contains(keyOf(before));
+            boolean isAfterAdded = !savedKeys.contains(keyOf(after));
+
+            if (!isBeforeKept && isAfterAdded) {
+                entries.add(JsonAdaptedJournalEntry.edit(before.getName(), after));
+                i++;
+                j++;
+            } else if (!isBeforeKept) {
+                entries.add(JsonAdaptedJournalEntry.delete(before.getName()));
+                i++;
+            } else if (isAfterAdded || !keyOf(before).equals(keyOf(after))) {
+                return Optional.empty();
+            } else {
+                createChangeEntry(before, after).ifPresent(entries::add);
+                i++;
+                j++;
+            }
+        }
+        for (; i < saved.size(); i++) {
+            entries.add(JsonAdaptedJournalEntry.delete(saved.get(i).getName()));
+        }
+        for (; j < current.size(); j++) {
+            if (savedKeys.contains(keyOf(current.get(j)))) {
+                return Optional.empty();
+            }
+            entries.add(JsonAdaptedJournalEntry.add(current.get(j)));
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Returns the smallest entry that turns {@code before} into {@code after}, which have the same name key.
+     */
+    private static Optional<JsonAdaptedJournalEntry> createChangeEntry(StudySpot before, StudySpot after) {
+        if (before == after) {
+            return Optional.empty();
+        }
+
+        boolean isStudiedHoursSame = before.getStudiedHours().equals(after.getStudiedHours());
+        if (before.equals(after)) {
+            return isStudiedHoursSame ? Optional.empty() : Optional.of(JsonAdaptedJournalEntry.log(after));
+        }
+        if (isStudiedHoursSame && withFavourite(before, after.getFavourite()).equals(after)) {
+            return Optional.of(JsonAdaptedJournalEntry.favourite(after));
+        }
+        return Optional.of(JsonAdaptedJournalEntry.edit(before.getName(), after));
+    }
+
+    private static Set<String> keysOf(List<StudySpot> studySpots) {
+        return studySpots.stream().map(JournaledStudyTrackerStorage::keyOf).collect(Collectors.toCollection(
+                HashSet::new));
+    }
+
+    private static String keyOf(StudySpot studySpot) {
+        return studySpot.getName().getCaseInsensitiveKey();
+    }
+
+    private static StudySpot withFavourite(StudySpot studySpot, Favourite favourite) {
+        return new StudySpot(studySpot.getName(), studySpot.getRating(), studySpot.getOperatingHours(),
+                studySpot.getAddress(), studySpot.getStudiedHours(), favourite, studySpot.getTags(),
+                studySpot.getAmenities());
+    }
+
+    private static StudySpot withStudiedHours(StudySpot studySpot, StudiedHours studiedHours) {
+        return new StudySpot(studySpot.getName(), studySpot.getRating(), studySpot.getOperatingHours(),
+                studySpot.getAddress(), studiedHours, studySpot.getFavourite(), studySpot.getTags(),
+                studySpot.getAmenities());
+    }
+
+    /**
+     * The complete entries of a journal that applies to the current snapshot.
+     */
+    private static class Journal {
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final boolean isStarted;
+        private final long length;
+
+        Journal(List<JsonAdaptedJournalEntry> entries, boolean isStarted, long length) {
+            this.entries = entries;
+            this.isStarted = isStarted;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Study spots that journal entries are being replayed onto.
+     * Study spots keep their positions when replaced, and entries naming a missing study spot are ignored.
+     */
+    static class Replay {
+        /** Study spots in order, with null in the positions of deleted study spots. */
+        private final List<StudySpot> studySpots = new ArrayList<>();
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        Replay(List<StudySpot> initialStudySpots) {
+            initialStudySpots.forEach(this::put);
+        }
+
+        /**
+         * Adds {@code studySpot}, or replaces the study spot with the same name key.
+         */
+        void put(StudySpot studySpot) {
+            Integer position = positions.get(keyOf(studySpot));
+            if (position == null) {
+                positions.put(keyOf(studySpot), studySpots.size());
+                studySpots.add(studySpot);
+            } else {
+                studySpots.set(position, studySpot);
+            }
+        }
+
+        /**
+         * Replaces the study spot named {@code target} with {@code edited}, or puts {@code edited} if there is none.
+         */
+        void replace(Name target, StudySpot edited) {
+            Integer position = positions.remove(target.getCaseInsensitiveKey());
+            if (position == null) {
+                put(edited);
+                return;
+            }
+            remove(edited.getName());
+            positions.put(keyOf(edited), position);
+            studySpots.set(position, edited);
+        }
+
+        void remove(Name target) {
+            Integer position = positions.remove(target.getCaseInsensitiveKey());
+            if (position != null) {
+                studySpots.set(position, null);
+            }
+        }
+
+        void setStudiedHours(Name target, StudiedHours studiedHours) {
+            Integer position = positions.get(target.getCaseInsensitiveKey());
+            if (position != null) {
+                studySpots.set(position, withStudiedHours(studySpots.get(position), studiedHours));
+            }
+        }
+
+        void setFavourite(Name target, Favourite favourite) {
+            Integer position = positions.get(target.getCaseInsensitiveKey());
+            if (position != null) {
+                studySpots.set(position, withFavourite(studySpots.get(position), favourite));
+            }
+        }
+
+        List<StudySpot> getStudySpots() {
+            return studySpots.stream().filter(studySpot -> studySpot != null).collect(Collectors.toList());
+        }
+    }
+}
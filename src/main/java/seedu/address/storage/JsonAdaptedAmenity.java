@@ -43,7 +43,7 @@ class JsonAdaptedAmenity {
             throw new IllegalValueException(String.format(Amenity.MESSAGE_CONSTRAINTS,
                     Amenity.listAllAmenityTypes(Amenity.VALID_TYPES)));
         }
-        return new Amenity(amenityType);
+        return Amenity.of(amenityType);
     }
 
 }
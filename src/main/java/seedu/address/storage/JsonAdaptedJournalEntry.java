@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+
+/**
+ * Jackson-friendly version of one change to the study spots, as recorded in the journal of a
+ * {@link JournaledStudyTrackerStorage}.
+ *
+ * Applying an entry sets values rather than adding to them, so replaying an entry that is already
+ * reflected in the study spots leaves them unchanged.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Unknown journal operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal entry's %s field is missing!";
+
+    static final String OPERATION_SNAPSHOT = "snapshot";
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_EDIT = "edit";
+    static final String OPERATION_DELETE = "delete";
+    static final String OPERATION_LOG = "log";
+    static final String OPERATION_FAVOURITE = "favourite";
+
+    private final String operation;
+    private final String name;
+    private final JsonAdaptedStudySpot studySpot;
+    private final String studiedHours;
+    private final String favourite;
+    private final String snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("name") String name,
+            @JsonProperty("studySpot") JsonAdaptedStudySpot studySpot,
+            @JsonProperty("studiedHours") String studiedHours, @JsonProperty("favourite") String favourite,
+            @JsonProperty("snapshotChecksum") String snapshotChecksum) {
+        this.operation = operation;
+        this.name = name;
+        this.studySpot = studySpot;
+        this.studiedHours = studiedHours;
+        this.favourite = favourite;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the marker after which the journal applies to the snapshot with {@code snapshotChecksum}.
+     */
+    static JsonAdaptedJournalEntry snapshot(String snapshotChecksum) {
+        requireNonNull(snapshotChecksum);
+        return new JsonAdaptedJournalEntry(OPERATION_SNAPSHOT, null, null, null, null, snapshotChecksum);
+    }
+
+    /**
+     * Returns the entry for adding {@code added}.
+     */
+    static JsonAdaptedJournalEntry add(StudySpot added) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, null, new JsonAdaptedStudySpot(added), null, null, null);
+    }
+
+    /**
+     * Returns the entry for replacing the study spot named {@code target} with {@code edited}.
+     */
+    static JsonAdaptedJournalEntry edit(Name target, StudySpot edited) {
+        return new JsonAdaptedJournalEntry(OPERATION_EDIT, target.fullName, new JsonAdaptedStudySpot(edited),
+                null, null, null);
+    }
+
+    /**
+     * Returns the entry for deleting the study spot named {@code target}.
+     */
+    static JsonAdaptedJournalEntry delete(Name target) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, target.fullName, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry for setting the studied hours of a study spot to those of {@code logged}.
+     */
+    static JsonAdaptedJournalEntry log(StudySpot logged) {
+        return new JsonAdaptedJournalEntry(OPERATION_LOG, logged.getName().fullName, null,
+                logged.getStudiedHours().value, null, null);
+    }
+
+    /**
+     * Returns the entry for setting whether a study spot is a favourite to match {@code studySpot}.
+     */
+    static JsonAdaptedJournalEntry favourite(StudySpot studySpot) {
+        return new JsonAdaptedJournalEntry(OPERATION_FAVOURITE, studySpot.getName().fullName, null, null,
+                studySpot.getFavourite().value, null);
+    }
+
+    public boolean isSnapshot() {
+        return OPERATION_SNAPSHOT.equals(operation);
+    }
+
+    public String getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Applies this entry to the study spots being replayed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(JournaledStudyTrackerStorage.Replay replay) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "operation"));
+        }
+
+        switch (operation) {
+        case OPERATION_SNAPSHOT:
+            // marks a snapshot that was about to be written, which changes nothing
+            break;
+        case OPERATION_ADD:
+            replay.put(toModelStudySpot());
+            break;
+        case OPERATION_EDIT:
+            replay.replace(toModelName(), toModelStudySpot());
+            break;
+        case OPERATION_DELETE:
+            replay.remove(toModelName());
+            break;
+        case OPERATION_LOG:
+            replay.setStudiedHours(toModelName(), toModelStudiedHours());
+            break;
+        case OPERATION_FAVOURITE:
+            replay.setFavourite(toModelName(), toModelFavourite());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+
+    private StudySpot toModelStudySpot() throws IllegalValueException {
+        if (studySpot == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "studySpot"));
+        }
+        return studySpot.toModelType();
+    }
+
+    private Name toModelName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "name"));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private StudiedHours toModelStudiedHours() throws IllegalValueException {
+        if (studiedHours == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "studiedHours"));
+        }
+        if (!StudiedHours.isValidLoggedHours(studiedHours)) {
+            throw new IllegalValueException(StudiedHours.MESSAGE_CONSTRAINTS);
+        }
+        return new StudiedHours(studiedHours);
+    }
+
+    private Favourite toModelFavourite() throws IllegalValueException {
+        if (favourite == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "favourite"));
+        }
+        if (!Favourite.isValidFavourite(favourite)) {
+            throw new IllegalValueException(Favourite.MESSAGE_CONSTRAINTS);
+        }
+        return new Favourite(Boolean.parseBoolean(favourite));
+    }
+}
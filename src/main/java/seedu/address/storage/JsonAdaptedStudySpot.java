@@ -107,7 +107,7 @@ class JsonAdaptedStudySpot {
         if (!Rating.isValidRating(rating)) {
             throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
         }
-        final Rating modelRating = new Rating(rating);
+        final Rating modelRating = Rating.of(rating);
 
         if (operatingHours == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.StudyTracker;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
 
 /**
  * An Immutable StudyTracker that is serializable to JSON format.
@@ -20,6 +23,12 @@ import seedu.address.model.studyspot.StudySpot;
 class JsonSerializableStudyTracker {
 
     public static final String MESSAGE_DUPLICATE_STUDYSPOT = "StudySpots list contains duplicate study spot(s).";
+    public static final String MESSAGE_DUPLICATE_STUDYSPOT_NAMES = MESSAGE_DUPLICATE_STUDYSPOT + " Duplicated: %1$s";
+    public static final String MESSAGE_INVALID_STUDYSPOTS = "StudySpots list contains %1$d invalid study spot(s):%2$s";
+    public static final String MESSAGE_INVALID_STUDYSPOT = "\nStudy spot %1$d: %2$s";
+
+    /** The number of study spots from which {@link #toModelType()} converts them in parallel. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1000;
 
     private final List<JsonAdaptedStudySpot> studySpots = new ArrayList<>();
 
@@ -43,21 +52,57 @@ class JsonSerializableStudyTracker {
 
     /**
      * Converts this study tracker into the model's {@code StudyTracker} object.
+     * Large study trackers have their study spots converted in parallel.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid study spot.
      */
     public StudyTracker toModelType() throws IllegalValueException {
-        StudyTracker studyTracker = new StudyTracker();
-        for (JsonAdaptedStudySpot jsonAdaptedStudySpot : studySpots) {
-            StudySpot spot = jsonAdaptedStudySpot.toModelType();
-            if (studyTracker.hasStudySpot(spot)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDYSPOT);
+        return toModelType(studySpots.size() >= PARALLEL_CONVERSION_THRESHOLD);
+    }
+
+    /**
+     * Converts this study tracker into the model's {@code StudyTracker} object.
+     * Every study spot is converted, and the ones that are invalid are reported together.
+     *
+     * @param isParallel whether to convert the study spots on the common fork-join pool.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid study spot.
+     */
+    StudyTracker toModelType(boolean isParallel) throws IllegalValueException {
+        StudySpot[] spots = new StudySpot[studySpots.size()];
+        String[] errors = new String[studySpots.size()];
+        IntStream indices = IntStream.range(0, studySpots.size());
+        if (isParallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                spots[i] = studySpots.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive.getMessage();
             }
-            studyTracker.addStudySpot(spot);
-            if (spot.isFavourite()) {
-                studyTracker.addStudySpotToFavourites(spot);
+        });
+
+        StringBuilder invalidStudySpots = new StringBuilder();
+        int invalidCount = 0;
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                invalidStudySpots.append(String.format(MESSAGE_INVALID_STUDYSPOT, i + 1, errors[i]));
+                invalidCount++;
             }
         }
+        if (invalidCount > 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STUDYSPOTS, invalidCount,
+                    invalidStudySpots));
+        }
+
+        StudyTracker studyTracker = new StudyTracker();
+        try {
+            studyTracker.loadStudySpots(Arrays.asList(spots));
+        } catch (DuplicateStudySpotException dse) {
+            String duplicateNames = dse.getDuplicates().stream()
+                    .map(spot -> spot.getName().toString()).collect(Collectors.joining(", "));
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STUDYSPOT_NAMES, duplicateNames));
+        }
         return studyTracker;
     }
 
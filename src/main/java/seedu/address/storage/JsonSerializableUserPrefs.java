@@ -11,11 +11,13 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.studyspot.StudiedHoursLeaderboard;
 
 /**
  * An Immutable StudyTracker that is serializable to JSON format.
@@ -26,21 +28,27 @@ class JsonSerializableUserPrefs {
 
     private GuiSettings guiSettings;
     private Path studyTrackerFilePath;
+    private DataFileFormat studyTrackerFileFormat;
+    private int leaderboardSize;
     private final List<JsonAdaptedAlias> aliases = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableUserPrefs} with the given GuiSettings, StudyTrackerFilePath and userAliases.
      *
-     * If GuiSettings, studyTrackerFilePath, or aliases not present in JSON file,
-     * use the defaults.
+     * If GuiSettings, studyTrackerFilePath, studyTrackerFileFormat, leaderboardSize or aliases not present
+     * in JSON file, use the defaults.
      */
     @JsonCreator
     public JsonSerializableUserPrefs(@JsonProperty("guiSettings") GuiSettings guiSettings,
                                      @JsonProperty("studyTrackerFilePath") Path studyTrackerFilePath,
+                                     @JsonProperty("studyTrackerFileFormat") DataFileFormat studyTrackerFileFormat,
+                                     @JsonProperty("leaderboardSize") Integer leaderboardSize,
                                      @JsonProperty("userAliases") List<JsonAdaptedAlias> aliases) {
 
         this.guiSettings = requireNonNullElse(guiSettings, new GuiSettings());
         this.studyTrackerFilePath = requireNonNullElse(studyTrackerFilePath, Paths.get("data", "studytracker.json"));
+        this.studyTrackerFileFormat = requireNonNullElse(studyTrackerFileFormat, DataFileFormat.JSON);
+        this.leaderboardSize = requireNonNullElse(leaderboardSize, UserPrefs.DEFAULT_LEADERBOARD_SIZE);
         this.aliases.addAll(requireNonNullElse(aliases, UserPrefs.DEFAULT_PROGRAM_ALIASES.stream()
                 .map(JsonAdaptedAlias::new).collect(Collectors.toList())));
     }
@@ -53,6 +61,8 @@ class JsonSerializableUserPrefs {
     public JsonSerializableUserPrefs(ReadOnlyUserPrefs source) {
         guiSettings = requireNonNullElse(guiSettings, new GuiSettings());
         studyTrackerFilePath = requireNonNullElse(studyTrackerFilePath, Paths.get("data", "studytracker.json"));
+        studyTrackerFileFormat = source.getStudyTrackerFileFormat();
+        leaderboardSize = source.getLeaderboardSize();
         aliases.addAll(source.getUserAliases().stream()
                 .map(JsonAdaptedAlias::new).collect(Collectors.toList()));
     }
@@ -74,6 +84,11 @@ class JsonSerializableUserPrefs {
         }
         userPrefs.setGuiSettings(guiSettings);
         userPrefs.setStudyTrackerFilePath(studyTrackerFilePath);
+        userPrefs.setStudyTrackerFileFormat(studyTrackerFileFormat);
+        if (leaderboardSize <= 0) {
+            throw new IllegalValueException(StudiedHoursLeaderboard.MESSAGE_CONSTRAINTS);
+        }
+        userPrefs.setLeaderboardSize(leaderboardSize);
         userPrefs.setUserAliases(aliases);
         return userPrefs;
     }
@@ -22,9 +22,19 @@ public class JsonStudyTrackerStorage implements StudyTrackerStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonStudyTrackerStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonStudyTrackerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonStudyTrackerStorage} for the file at {@code filePath}, which is written on a single line
+     * if {@code isCompact} is true, or pretty-printed otherwise.
+     */
+    public JsonStudyTrackerStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getStudyTrackerFilePath() {
@@ -66,6 +76,7 @@ public class JsonStudyTrackerStorage implements StudyTrackerStorage {
 
     /**
      * Similar to {@link #saveStudyTracker(ReadOnlyStudyTracker)}.
+     * The previous content of the file is kept at {@link FileUtil#getBackupPath(Path)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +84,8 @@ public class JsonStudyTrackerStorage implements StudyTrackerStorage {
         requireNonNull(studyTracker);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudyTracker(studyTracker), filePath);
+        FileUtil.backUp(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableStudyTracker(studyTracker), filePath, isCompact);
     }
 
 }
@@ -59,9 +59,13 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * The file is only rewritten if its content would change.
+     */
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileIfChanged(userPrefs, filePath);
     }
 
 }
@@ -65,9 +65,17 @@ public class StorageManager implements Storage {
         return studyTrackerStorage.readStudyTracker(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTrackerSnapshot(Path filePath) throws DataConversionException,
+            IOException {
+        logger.fine("Attempting to read data without its journal from file: " + filePath);
+        return studyTrackerStorage.readStudyTrackerSnapshot(filePath);
+    }
+
     @Override
     public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
-        saveStudyTracker(studyTracker, studyTrackerStorage.getStudyTrackerFilePath());
+        logger.fine("Attempting to write to data file: " + studyTrackerStorage.getStudyTrackerFilePath());
+        studyTrackerStorage.saveStudyTracker(studyTracker);
     }
 
     @Override
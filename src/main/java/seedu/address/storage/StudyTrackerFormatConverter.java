@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyStudyTracker;
+
+/**
+ * Converts study tracker data files between the {@link DataFileFormat}s.
+ *
+ * Can be run on its own with {@code SOURCE_FORMAT SOURCE_FILE TARGET_FORMAT TARGET_FILE} as arguments, e.g.
+ * {@code java -cp studytracker.jar seedu.address.storage.StudyTrackerFormatConverter
+ * JSON data/studytracker.json BINARY data/studytracker.bin}.
+ */
+public class StudyTrackerFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: StudyTrackerFormatConverter "
+            + "SOURCE_FORMAT SOURCE_FILE TARGET_FORMAT TARGET_FILE\n"
+            + "where the formats are JSON, PLAIN_JSON or BINARY";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source file %s not found";
+    public static final String MESSAGE_SUCCESS = "Converted %s to %s";
+
+    /**
+     * Returns the storage of a data file in {@code format} at {@code filePath}.
+     * JSON data files are accessed together with their journal.
+     */
+    public static StudyTrackerStorage createStorage(DataFileFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryStudyTrackerStorage(filePath);
+        case JSON:
+            return new JournaledStudyTrackerStorage(filePath);
+        case PLAIN_JSON:
+            return new JsonStudyTrackerStorage(filePath);
+        default:
+            throw new AssertionError("Unknown data file format: " + format);
+        }
+    }
+
+    /**
+     * Reads the study tracker of {@code source} and writes it as a whole to the file of {@code target}.
+     *
+     * @return false if {@code source} has no data file, in which case nothing is written.
+     * @throws DataConversionException if the data file of {@code source} is not in the correct format.
+     */
+    public static boolean convert(StudyTrackerStorage source, StudyTrackerStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyStudyTracker> studyTracker = source.readStudyTracker();
+        if (studyTracker.isEmpty()) {
+            return false;
+        }
+        target.saveStudyTracker(studyTracker.get(), target.getStudyTrackerFilePath());
+        return true;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            StudyTrackerStorage source = createStorage(DataFileFormat.valueOf(args[0]), Paths.get(args[1]));
+            StudyTrackerStorage target = createStorage(DataFileFormat.valueOf(args[2]), Paths.get(args[3]));
+            if (!convert(source, target)) {
+                System.err.println(String.format(MESSAGE_SOURCE_NOT_FOUND, args[1]));
+                System.exit(1);
+            }
+            System.out.println(String.format(MESSAGE_SUCCESS, args[1], args[3]));
+        } catch (IllegalArgumentException iae) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -31,6 +31,15 @@ public interface StudyTrackerStorage {
      */
     Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readStudyTracker(Path)}, but ignores any journal of changes kept next to the file,
+     * such as for a backup or when the journal cannot be read.
+     */
+    default Optional<ReadOnlyStudyTracker> readStudyTrackerSnapshot(Path filePath) throws DataConversionException,
+            IOException {
+        return readStudyTracker(filePath);
+    }
+
     /**
      * Saves the given {@link ReadOnlyStudyTracker} to the storage.
      * @param studyTracker cannot be null.
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.studyspot.StudySpot;
+
+/**
+ * Saves data to {@code Storage} on a dedicated background thread, so that commands do not wait for the disk.
+ *
+ * Data is copied when a save is requested, and requests that arrive while a save is pending are coalesced:
+ * only the latest copy of each file is written. Failures are reported to the failure handler on the saving thread.
+ * A copy that fails to save stays pending unless a newer copy has been requested, and is written again
+ * with the next save requested.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+    private static final String THREAD_NAME = "storage-writer";
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+
+    private ReadOnlyStudyTracker pendingStudyTracker;
+    private ReadOnlyUserPrefs pendingUserPrefs;
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} on its own thread.
+     */
+    public WriteBehindSaver(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} on {@code executor},
+     * which must run tasks one at a time in submission order.
+     */
+    WriteBehindSaver(Storage storage, ExecutorService executor) {
+        requireAllNonNull(storage, executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed save.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Copies {@code studyTracker} and schedules it to be saved, replacing any copy that has not been saved yet.
+     */
+    public void requestStudyTrackerSave(ReadOnlyStudyTracker studyTracker) {
+        requireNonNull(studyTracker);
+        ReadOnlyStudyTracker studyTrackerCopy = new StudyTrackerSnapshot(studyTracker);
+        synchronized (this) {
+            pendingStudyTracker = studyTrackerCopy;
+        }
+        scheduleSave();
+    }
+
+    /**
+     * Copies {@code userPrefs} and schedules it to be saved, replacing any copy that has not been saved yet.
+     */
+    public void requestUserPrefsSave(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        ReadOnlyUserPrefs userPrefsCopy = new UserPrefs(userPrefs);
+        synchronized (this) {
+            pendingUserPrefs = userPrefsCopy;
+        }
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        synchronized (this) {
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.execute(this::savePending);
+    }
+
+    /**
+     * Blocks until all requested saves have been written or have failed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail.", ee);
+        }
+    }
+
+    /**
+     * Writes all requested saves and stops the saving thread. No saves can be requested afterwards.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void savePending() {
+        ReadOnlyStudyTracker studyTracker;
+        ReadOnlyUserPrefs userPrefs;
+        synchronized (this) {
+            studyTracker = pendingStudyTracker;
+            userPrefs = pendingUserPrefs;
+            pendingStudyTracker = null;
+            pendingUserPrefs = null;
+            isSaveScheduled = false;
+        }
+
+        if (studyTracker != null) {
+            try {
+                storage.saveStudyTracker(studyTracker);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pendingStudyTracker == null) {
+                        pendingStudyTracker = studyTracker;
+                    }
+                }
+                reportFailure(ioe);
+            }
+        }
+        if (userPrefs != null) {
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pendingUserPrefs == null) {
+                        pendingUserPrefs = userPrefs;
+                    }
+                }
+                reportFailure(ioe);
+            }
+        }
+    }
+
+    private void reportFailure(IOException ioe) {
+        logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+        failureHandler.accept(ioe);
+    }
+
+    /**
+     * A copy of the study spot lists of a study tracker, which is all that storage reads.
+     * Study spots are immutable, so they are shared with the study tracker copied.
+     */
+    private static class StudyTrackerSnapshot implements ReadOnlyStudyTracker {
+
+        private final ObservableList<StudySpot> studySpots;
+        private final ObservableList<StudySpot> favouriteStudySpots;
+
+        StudyTrackerSnapshot(ReadOnlyStudyTracker source) {
+            studySpots = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getStudySpotList()));
+            favouriteStudySpots = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getFavouriteStudySpotList()));
+        }
+
+        @Override
+        public ObservableList<StudySpot> getStudySpotList() {
+            return studySpots;
+        }
+
+        @Override
+        public ObservableList<StudySpot> getFavouriteStudySpotList() {
+            return favouriteStudySpots;
+        }
+    }
+}
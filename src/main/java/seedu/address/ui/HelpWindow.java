@@ -4,9 +4,10 @@ import java.awt.Desktop;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -16,7 +17,8 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.util.CommandList;
+import seedu.address.logic.commands.util.CommandDescriptor;
+import seedu.address.logic.commands.util.CommandRegistry;
 
 /**
  * Controller for a help page
@@ -31,8 +33,8 @@ public class HelpWindow extends UiPart<Stage> {
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
 
-    private ObservableList<String> commandList = CommandList.COMMANDS;
-    private HashMap<String, String> commandToUsage = CommandList.getCommandToUsageMapping();
+    private ObservableList<String> commandList = FXCollections.observableArrayList(CommandRegistry.getCommands()
+            .stream().map(CommandDescriptor::getDisplayName).collect(Collectors.toList()));
     private HelpCommandInfoDisplay commandInfoDisplay;
     private Logic logic;
 
@@ -142,8 +144,7 @@ public class HelpWindow extends UiPart<Stage> {
         @Override
         public void handle(MouseEvent event) {
             String clickedCommand = commandListView.getSelectionModel().getSelectedItem().toLowerCase();
-            String commandFormat = commandToUsage.get(clickedCommand);
-            commandInfoDisplay.setCommandInfo(commandFormat);
+            commandInfoDisplay.setCommandInfo(CommandRegistry.getCommand(clickedCommand).getUsage());
         }
     }
 }
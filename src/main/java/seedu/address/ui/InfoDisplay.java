@@ -1,6 +1,11 @@
 package seedu.address.ui;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
@@ -16,8 +21,11 @@ import seedu.address.model.studyspot.StudySpot;
 public class InfoDisplay extends UiPart<Region> {
     private static final String FXML = "InfoDisplay.fxml";
     private static final String DEFAULT_MESSAGE = "Use the log command to start tracking hours!";
-    private ObservableList<StudySpot> topFiveSpots;
-    private ObservableList<PieChart.Data> pieChartData;
+    private static final String LOADING_MESSAGE = "Loading study spots...";
+    private final ObservableList<StudySpot> topStudySpots;
+    private final ReadOnlyLongProperty totalStudiedHours;
+    private final ObservableList<PieChart.Data> pieChartData;
+    private boolean isLoading;
 
     @FXML
     private PieChart infoDisplayChart;
@@ -33,11 +41,14 @@ public class InfoDisplay extends UiPart<Region> {
 
     /**
      * Initializes the {@code InfoDisplay}.
+     * The pie chart and total hours are bound to {@code topStudySpots} and {@code totalStudiedHours},
+     * and follow their changes.
      */
-    public InfoDisplay(ObservableList<StudySpot> topFiveSpots, ObservableList<StudySpot> fullList) {
+    public InfoDisplay(ObservableList<StudySpot> topStudySpots, ReadOnlyLongProperty totalStudiedHours) {
         super(FXML);
 
-        this.topFiveSpots = topFiveSpots;
+        this.topStudySpots = topStudySpots;
+        this.totalStudiedHours = totalStudiedHours;
         infoChartCaption.setVisible(false);
         infoChartCaption.getStyleClass().add("chart-line-symbol");
 
@@ -46,220 +57,78 @@ public class InfoDisplay extends UiPart<Region> {
         infoDisplayChart.setLabelsVisible(false);
         infoDisplayChart.setStartAngle(90.0);
         infoDisplayChart.autosize();
-        infoDisplayDefaultMessage.setText("");
-
-        ObservableList<PieChart.Data> pieData = FXCollections.observableArrayList();
-
-        if (getTotalStudiedHours(fullList) == 0) {
-            infoDisplayDefaultMessage.setText(DEFAULT_MESSAGE);
-        }
-
-        for (StudySpot s : topFiveSpots) {
-            String name = s.getName().fullName;
-            int hours = s.getStudiedHours().getHours();
-            pieData.add(new PieChart.Data(name, hours));
-        }
 
-        infoDisplayChart.setData(pieData);
-        infoChartHours.setText(String.valueOf(getTotalStudiedHours(fullList)));
-        pieData.forEach(this::addInteractivity);
+        pieChartData = FXCollections.observableArrayList();
+        infoDisplayChart.setData(pieChartData);
+        refreshPieChart();
+        topStudySpots.addListener((ListChangeListener<StudySpot>) change -> refreshPieChart());
 
-        pieChartData = pieData;
+        showTotalStudiedHours(totalStudiedHours.get());
+        totalStudiedHours.addListener((observable, oldValue, newValue) -> showTotalStudiedHours(newValue.longValue()));
     }
 
     /**
-     * Updates the pie chart with new top five spots
+     * Sets whether the study spots are still being loaded, in which case a loading message is shown
+     * instead of the default message.
      */
-    public void updatePieChart(ObservableList<StudySpot> newTopFiveSpots, ObservableList<StudySpot> fullList) {
-        int totalStudiedHours = getTotalStudiedHours(fullList);
-        infoDisplayDefaultMessage.setText("");
-        if (totalStudiedHours == 0) {
-            infoDisplayDefaultMessage.setText(DEFAULT_MESSAGE);
-        }
-
-        if (newTopFiveSpots.isEmpty() && fullList.isEmpty() && !pieChartData.isEmpty()) {
-            pieChartData.clear();
-        }
-
-        if (isSameSpotsByName(newTopFiveSpots)) {
-            handleSameSpots(newTopFiveSpots);
-            checkFavourites(newTopFiveSpots);
-        }
-
-        if (!isSameSpotsByName(newTopFiveSpots) && newTopFiveSpots.size() <= topFiveSpots.size()) {
-            handleOvertakingSpots(newTopFiveSpots);
-        }
-
-        if (newTopFiveSpots.size() > topFiveSpots.size()) {
-            handleAddingSpotIntoTopFive(newTopFiveSpots);
-        }
-
-        topFiveSpots = newTopFiveSpots;
-        pieChartData.forEach(this::addInteractivity);
-
-        //Sorts pie chart based off largest hours to smallest hours
-        pieChartData.sort((spot1, spot2) -> (int) (spot2.getPieValue() - spot1.getPieValue()));
-        infoChartHours.setText(String.valueOf(totalStudiedHours));
-    }
-
-    /**
-     * Adds a spot into the TopFiveStudySpot.
-     *
-     * The updatedStudySpots should have a study spot that was not originally in topFiveSpots,
-     * and also the topFiveStudySpots should not already be full.
-     */
-    public void handleAddingSpotIntoTopFive(ObservableList<StudySpot> updatedStudySpots) {
-        assert(updatedStudySpots.size() > topFiveSpots.size()) : "Updated should be bigger than old!";
-
-        for (StudySpot s : updatedStudySpots) {
-            if (!topFiveSpots.contains(s)) {
-                addNewSpotIntoPieChart(s);
-            }
-        }
+    public void setLoading(boolean isLoading) {
+        this.isLoading = isLoading;
+        showTotalStudiedHours(totalStudiedHours.get());
     }
 
     /**
-     * Handles updating the pie chart if the spots are the same
+     * Shows {@code totalStudiedHours} below the pie chart.
+     * Shows MAX int value if the total exceeds it.
      */
-    public void handleSameSpots(ObservableList<StudySpot> updatedStudySpots) {
-        assert (isSameSpotsByName(updatedStudySpots)) : "Spots should be the same";
-        for (StudySpot s : updatedStudySpots) {
-            String name = s.getName().fullName;
-            int updatedHours = s.getStudiedHours().getHours();
-            for (PieChart.Data d : pieChartData) {
-                if (d.getName().equals(name)) {
-                    d.setPieValue(updatedHours);
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * Checks if any of the study spots changed due to favourites
-     */
-    public void checkFavourites(ObservableList<StudySpot> studySpots) {
-        assert(isSameSpotsByName(studySpots)) : "This method should only be called if the two lists have the "
-                + "same names!";
-
-        // Assume that since both study spots should have the same name, if a spot is not "contained" in the list,
-        // that is the spot to be replaced
-        boolean isFound = false;
-        StudySpot newSpot = null;
-        int indexToBeRemoved = 0;
-        int indexOfNewSpot = 0;
-        for (int i = 0; i < topFiveSpots.size(); i++) {
-            StudySpot curr = topFiveSpots.get(i);
-            for (int n = 0; n < studySpots.size(); n++) {
-                StudySpot compare = studySpots.get(n);
-                if (curr.getName().fullName.equals(compare.getName().fullName) && !curr.equals(compare)) {
-                    indexToBeRemoved = i;
-                    indexOfNewSpot = n;
-                    newSpot = compare;
-                    isFound = true;
-                    break;
-                }
-            }
-            if (isFound) {
-                break;
-            }
-        }
-        if (isFound) {
-            topFiveSpots.remove(indexToBeRemoved);
-            topFiveSpots.add(indexOfNewSpot, newSpot);
+    private void showTotalStudiedHours(long totalStudiedHours) {
+        infoDisplayDefaultMessage.setText("");
+        if (isLoading) {
+            infoDisplayDefaultMessage.setText(LOADING_MESSAGE);
+        } else if (totalStudiedHours == 0) {
+            infoDisplayDefaultMessage.setText(DEFAULT_MESSAGE);
         }
+        int shownHours = totalStudiedHours > (long) Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) totalStudiedHours;
+        infoChartHours.setText(String.valueOf(shownHours));
     }
 
     /**
-     * Handles updating the pie chart if one spot over took another
+     * Brings the pie chart in line with the top study spots.
+     * Slices of study spots that are still listed are updated in place rather than recreated.
      */
-    public void handleOvertakingSpots(ObservableList<StudySpot> updatedStudySpots) {
-        assert (!isSameSpotsByName(updatedStudySpots)) : "Spots should not be the same";
-        StudySpot spotToBeRemoved = null;
-        for (StudySpot s : topFiveSpots) {
-            if (!updatedStudySpots.contains(s)) {
-                spotToBeRemoved = s;
-                break;
-            }
-        }
-
-        assert (spotToBeRemoved != null) : "At least one spot should have been removed";
-        for (PieChart.Data d : pieChartData) {
-            if (d.getName().equals(spotToBeRemoved.getName().fullName)) {
-                pieChartData.remove(d);
-                break;
-            }
+    private void refreshPieChart() {
+        Set<String> topStudySpotNames = new HashSet<>();
+        for (StudySpot s : topStudySpots) {
+            topStudySpotNames.add(s.getName().fullName);
         }
+        pieChartData.removeIf(d -> !topStudySpotNames.contains(d.getName()));
 
-        for (StudySpot s : updatedStudySpots) {
+        for (StudySpot s : topStudySpots) {
             String name = s.getName().fullName;
             int hours = s.getStudiedHours().getHours();
-
-            if (topFiveSpots.contains(s)) {
-                for (PieChart.Data d : pieChartData) {
-                    if (d.getName().equals(name)) {
-                        d.setPieValue(hours);
-                        break;
-                    }
-                }
+            PieChart.Data existingData = findPieChartData(name);
+            if (existingData != null) {
+                existingData.setPieValue(hours);
             } else {
-                addNewSpotIntoPieChart(s);
-            }
-        }
-    }
-
-    /**
-     * Adds a new study spot into the pie chart
-     */
-    public void addNewSpotIntoPieChart(StudySpot newSpot) {
-        // Method should only be called if pie chart has less than 5 elements
-        assert (pieChartData.size() < 5) : "This method should only be called if pie chart is less than 5";
-        int pieChartInitialSize = pieChartData.size();
-        String name = newSpot.getName().fullName;
-        int hours = newSpot.getStudiedHours().getHours();
-        PieChart.Data data = new PieChart.Data(name, hours);
-
-        int index = 0;
-
-        // Ensures that the data is inserted in the right index
-        for (PieChart.Data d : pieChartData) {
-            if (d.getPieValue() < hours) {
-                pieChartData.add(index, data);
-                break;
+                PieChart.Data data = new PieChart.Data(name, hours);
+                pieChartData.add(data);
+                addInteractivity(data);
             }
-            index++;
         }
 
-        // Was not added in during above for loop because it was smaller than all other hours
-        if (pieChartInitialSize == pieChartData.size()) {
-            pieChartData.add(data);
-        }
+        //Sorts pie chart based off largest hours to smallest hours
+        pieChartData.sort((spot1, spot2) -> (int) (spot2.getPieValue() - spot1.getPieValue()));
     }
 
     /**
-     * Checks if the given list is the same (same name) as the current top five spots
+     * Returns the pie chart data of the study spot with the given {@code name}, or null if it is not shown.
      */
-    public boolean isSameSpotsByName(ObservableList<StudySpot> comparedList) {
-        boolean result = true;
-
-        //If the two lists are different size, it means that they dont have the same names already
-        if (pieChartData.size() != comparedList.size()) {
-            return false;
-        }
+    private PieChart.Data findPieChartData(String name) {
         for (PieChart.Data d : pieChartData) {
-            String name = d.getName();
-
-            //Turns the comparedList into a stream containing the names of the StudySpots, then checks if none of the
-            //names matches the name of the current data being checked
-            if (comparedList.stream()
-                    .map((spot) -> spot.getName().fullName)
-                    .noneMatch(curr -> curr.equals(name))) {
-                result = false;
-                break;
+            if (d.getName().equals(name)) {
+                return d;
             }
         }
-
-        return result;
+        return null;
     }
 
     /**
@@ -289,16 +158,4 @@ public class InfoDisplay extends UiPart<Region> {
             infoChartCaption.setVisible(false);
         });
     }
-
-    /**
-     * Given a list of study spots, add up total studied hours.
-     * Returns MAX int value if there is integer overflow.
-     */
-    private int getTotalStudiedHours(ObservableList<StudySpot> fullList) {
-        long totalHours = 0;
-        for (StudySpot s : fullList) {
-            totalHours += s.getStudiedHours().getHours();
-        }
-        return totalHours > (long) Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) totalHours;
-    }
 }
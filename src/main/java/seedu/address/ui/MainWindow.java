@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -27,6 +31,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
     private static final String CSS_PATH = "/styles/";
+    private static final String MESSAGE_LOADING = "Loading study spots from %1$s...";
+    private static final String MESSAGE_COMMAND_QUEUED = "Still loading study spots. "
+            + "\"%1$s\" will be executed once they are loaded.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -41,6 +48,9 @@ public class MainWindow extends UiPart<Stage> {
     private InfoDisplay infoDisplay;
     private SettingsWindow settingsWindow;
 
+    // Commands entered while the study tracker is loading
+    private final List<String> queuedCommands = new ArrayList<>();
+
     @FXML
     private HBox commandBoxPlaceholder;
 
@@ -133,7 +143,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        infoDisplay = new InfoDisplay(logic.getTopFiveStudySpotList(), logic.getFullList());
+        infoDisplay = new InfoDisplay(logic.getTopStudiedStudySpotList(), logic.totalStudiedHoursProperty());
         infoDisplayPlaceholder.getChildren().add(infoDisplay.getRoot());
 
         favouritesListPanel = new FavouritesListPanel(logic.getFavouriteStudySpotList());
@@ -144,6 +154,44 @@ public class MainWindow extends UiPart<Stage> {
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+
+        if (!logic.isStudyTrackerLoaded()) {
+            studySpotListPanel.showLoading();
+            infoDisplay.setLoading(true);
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, logic.getStudyTrackerFilePath()));
+        }
+    }
+
+    /**
+     * Shows the study spots once the study tracker has loaded, and executes the commands entered while it loaded.
+     * The lists of study spots fill in by themselves as they follow the model.
+     */
+    void handleStudyTrackerLoaded() {
+        studySpotListPanel.updateStudySpotCountDisplay(logic.getFilteredStudySpotList().size(),
+                logic.getFullList().size());
+        favouritesListPanel.updateFavouritesCountDisplay(logic.getFavouriteStudySpotList().size());
+        infoDisplay.setLoading(false);
+        resultDisplay.setFeedbackToUser("");
+
+        if (queuedCommands.isEmpty()) {
+            return;
+        }
+        StringJoiner feedback = new StringJoiner("\n");
+        for (String commandText : queuedCommands) {
+            try {
+                CommandResult commandResult = executeCommand(commandText);
+                feedback.add(commandText + ": " + commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                feedback.add(commandText + ": " + e.getMessage());
+            }
+        }
+        queuedCommands.clear();
+        resultDisplay.setFeedbackToUser(feedback.toString());
     }
 
     /**
@@ -229,10 +277,19 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Executes the command and returns the result.
+     * Commands entered while the study tracker is loading are queued until it has loaded.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (!logic.isStudyTrackerLoaded()) {
+            logger.info("Queued command: " + commandText);
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -240,7 +297,6 @@ public class MainWindow extends UiPart<Stage> {
             studySpotListPanel.updateStudySpotCountDisplay(logic.getFilteredStudySpotList().size(),
                     logic.getFullList().size());
             favouritesListPanel.updateFavouritesCountDisplay(logic.getFavouriteStudySpotList().size());
-            infoDisplay.updatePieChart(logic.getTopFiveStudySpotList(), logic.getFullList());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -17,6 +17,7 @@ import seedu.address.model.studyspot.StudySpot;
 public class StudySpotListPanel extends UiPart<Region> {
     private static final String FXML = "StudySpotListPanel.fxml";
     private static final String DEFAULT_MESSAGE = "Add a study spot here to get started!";
+    private static final String LOADING_MESSAGE = "Loading study spots...";
     private final Logger logger = LogsCenter.getLogger(StudySpotListPanel.class);
 
     @FXML
@@ -51,6 +52,15 @@ public class StudySpotListPanel extends UiPart<Region> {
         }
     }
 
+    /**
+     * Shows that the study spots are still being loaded.
+     * The count is shown again by the next {@link #updateStudySpotCountDisplay(int, int)}.
+     */
+    public void showLoading() {
+        studySpotListCount.setText("-");
+        studySpotListViewDefaultMessage.setText(LOADING_MESSAGE);
+    }
+
     private void getInitialStudySpotCountDisplay(int studySpotCount) {
         updateStudySpotCountDisplay(studySpotCount, studySpotCount);
     }
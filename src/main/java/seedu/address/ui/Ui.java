@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows the study tracker that has finished loading and executes the commands entered while it loaded. */
+    void handleStudyTrackerLoaded();
+
 }
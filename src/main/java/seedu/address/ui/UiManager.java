@@ -51,6 +51,12 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void handleStudyTrackerLoaded() {
+        logger.info("Showing loaded study tracker...");
+        mainWindow.handleStudyTrackerLoaded();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
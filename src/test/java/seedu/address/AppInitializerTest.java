@@ -0,0 +1,99 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledStudyTrackerStorage;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.StudyTrackerStorage;
+
+public class AppInitializerTest {
+
+    private static final String INVALID_JOURNAL_ENTRY =
+            "{\"operation\":\"log\",\"name\":\"Starbucks\",\"studiedHours\":\"-1\"}\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledStudyTrackerStorage studyTrackerStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("studyTracker.json");
+        studyTrackerStorage = new JournaledStudyTrackerStorage(filePath);
+        storage = new StorageManager(studyTrackerStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void initStudyTrackerStorage_jsonFormat_journaledStorage() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudyTrackerFilePath(filePath);
+
+        assertTrue(AppInitializer.initStudyTrackerStorage(userPrefs, new Config())
+                instanceof JournaledStudyTrackerStorage);
+    }
+
+    @Test
+    public void initStudyTrackerStorage_plainJsonFormat_journalMerged() throws Exception {
+        studyTrackerStorage.saveStudyTracker(new StudyTracker());
+        studyTrackerStorage.saveStudyTracker(getTypicalStudyTracker());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudyTrackerFilePath(filePath);
+        userPrefs.setStudyTrackerFileFormat(DataFileFormat.PLAIN_JSON);
+
+        StudyTrackerStorage plainStorage = AppInitializer.initStudyTrackerStorage(userPrefs, new Config());
+        assertTrue(plainStorage instanceof JsonStudyTrackerStorage);
+        assertFalse(Files.exists(JournaledStudyTrackerStorage.getJournalFilePath(filePath)));
+        assertEquals(getTypicalStudyTracker(), plainStorage.readStudyTracker().get());
+    }
+
+    @Test
+    public void readInitialStudyTracker_invalidJournal_dataFileWithoutJournalUsed() throws Exception {
+        StudyTracker studyTracker = new StudyTracker();
+        studyTracker.addStudySpot(STARBUCKS);
+        studyTrackerStorage.saveStudyTracker(studyTracker);
+        StudyTracker expectedStudyTracker = new StudyTracker(studyTracker);
+        studyTracker.removeStudySpot(STARBUCKS);
+        studyTrackerStorage.saveStudyTracker(studyTracker);
+        Files.write(JournaledStudyTrackerStorage.getJournalFilePath(filePath),
+                INVALID_JOURNAL_ENTRY.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(expectedStudyTracker, AppInitializer.readInitialStudyTracker(storage));
+    }
+
+    @Test
+    public void readInitialStudyTracker_invalidDataFile_backupUsed() throws Exception {
+        studyTrackerStorage.saveStudyTracker(getTypicalStudyTracker());
+        studyTrackerStorage.saveStudyTracker(new StudyTracker(), filePath);
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(getTypicalStudyTracker(), AppInitializer.readInitialStudyTracker(storage));
+    }
+
+    @Test
+    public void readInitialStudyTracker_invalidDataFileAndNoBackup_emptyStudyTrackerUsed() throws Exception {
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new StudyTracker(), AppInitializer.readInitialStudyTracker(storage));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_NAME;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+    private HeadlessMain headlessMain;
+
+    private final StringWriter output = new StringWriter();
+    private final StringWriter errors = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonStudyTrackerStorage(testFolder.resolve("studyTracker.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        headlessMain = new HeadlessMain(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void constructor_nullLogic_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HeadlessMain(null));
+    }
+
+    @Test
+    public void run_validCommands_feedbackWrittenAndDataSaved() throws Exception {
+        int failedCount = run(ListCommand.COMMAND_WORD + "\n\n" + DeleteCommand.COMMAND_WORD + " n/"
+                + STARBUCKS.getName() + "\n");
+
+        assertEquals(0, failedCount);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + String.format(DeleteCommand.MESSAGE_DELETE_STUDYSPOT_SUCCESS, STARBUCKS.getName())
+                + System.lineSeparator(), output.toString());
+        assertEquals("", errors.toString());
+        assertFalse(model.hasStudySpot(STARBUCKS));
+        assertTrue(Files.exists(testFolder.resolve("studyTracker.json")));
+    }
+
+    @Test
+    public void run_failingCommands_errorsWrittenWithLineNumbers() throws Exception {
+        int failedCount = run("plant\n" + ListCommand.COMMAND_WORD + "\n" + DeleteCommand.COMMAND_WORD
+                + " n/Nowhere");
+
+        assertEquals(2, failedCount);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString());
+        assertEquals(String.format(HeadlessMain.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + String.format(HeadlessMain.MESSAGE_COMMAND_FAILED, 3, MESSAGE_INVALID_NAME)
+                + System.lineSeparator(), errors.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int failedCount = run(ExitCommand.COMMAND_WORD + "\nplant\n");
+
+        assertEquals(0, failedCount);
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output.toString());
+        assertEquals("", errors.toString());
+    }
+
+    @Test
+    public void run_inputFails_executedCommandsSaved() {
+        IOException exception = new IOException("dummy exception");
+        BufferedReader input = new BufferedReader(new StringReader(DeleteCommand.COMMAND_WORD + " n/"
+                + STARBUCKS.getName() + "\n")) {
+            private boolean isFirstLineRead;
+
+            @Override
+            public String readLine() throws IOException {
+                if (isFirstLineRead) {
+                    throw exception;
+                }
+                isFirstLineRead = true;
+                return super.readLine();
+            }
+        };
+
+        assertThrows(IOException.class, () -> headlessMain.run(input, new PrintWriter(output),
+                new PrintWriter(errors)));
+        assertFalse(model.hasStudySpot(STARBUCKS));
+        assertTrue(Files.exists(testFolder.resolve("studyTracker.json")));
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_STUDYSPOT_SUCCESS, STARBUCKS.getName())
+                + System.lineSeparator(), output.toString());
+    }
+
+    private int run(String input) throws Exception {
+        return headlessMain.run(new BufferedReader(new StringReader(input)), new PrintWriter(output),
+                new PrintWriter(errors));
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,7 +18,8 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         Path userPrefsFilePath = Paths.get("data", "preferences.json");
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : " + userPrefsFilePath;
+                + "Preference file Location : " + userPrefsFilePath + "\n"
+                + "Compact data file : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -39,6 +42,16 @@ public class ConfigTest {
         assertNotEquals(Paths.get("unknown.json"), c.getUserPrefsFilePath());
     }
 
+    @Test
+    public void getSetCompactDataFile_validValue_success() {
+        Config c = new Config();
+        assertFalse(c.isCompactDataFile());
+
+        c.setCompactDataFile(true);
+        assertTrue(c.isCompactDataFile());
+        assertNotEquals(new Config(), c);
+    }
+
     @Test
     public void equalsMethod() {
         Config defaultConfig = new Config();
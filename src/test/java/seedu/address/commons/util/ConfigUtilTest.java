@@ -2,11 +2,14 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -101,6 +104,21 @@ public class ConfigUtilTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveConfig_unchangedConfig_doesNotRewriteFile() throws IOException {
+        Config config = getTypicalConfig();
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        Files.setLastModifiedTime(configFilePath, FileTime.fromMillis(0));
+
+        ConfigUtil.saveConfig(getTypicalConfig(), configFilePath);
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(configFilePath));
+
+        config.setLogLevel(Level.FINE);
+        ConfigUtil.saveConfig(config, configFilePath);
+        assertNotEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(configFilePath));
+    }
+
     private void save(Config config, String configFileInTestDataFolder) throws IOException {
         Path configFilePath = addToTestDataPathIfNotNull(configFileInTestDataFolder);
         ConfigUtil.saveConfig(config, configFilePath);
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,76 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+
+        // missing file and parent directory -> created
+        FileUtil.writeToFileAtomically(file, "first");
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        // existing file -> replaced, no temporary file left behind
+        FileUtil.writeToFileAtomically(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+
+        // failing content writer -> old content kept, no temporary file left behind
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException();
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileIfChanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        // missing file -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "first".getBytes()));
+        assertEquals("first", FileUtil.readFromFile(file));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+        // same content -> file untouched
+        assertFalse(FileUtil.writeToFileIfChanged(file, "first".getBytes()));
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(file));
+
+        // different content of the same size -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "fir5t".getBytes()));
+        assertEquals("fir5t", FileUtil.readFromFile(file));
+
+        // different size -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "second".getBytes()));
+        assertEquals("second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void backUp() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backup = FileUtil.getBackupPath(file);
+
+        // missing file -> no backup
+        FileUtil.backUp(file);
+        assertFalse(Files.exists(backup));
+
+        // existing file -> backup keeps its content after the file is replaced
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.backUp(file);
+        FileUtil.writeToFileAtomically(file, "second");
+        assertEquals("first", FileUtil.readFromFile(backup));
+
+        // existing backup -> replaced
+        FileUtil.backUp(file);
+        FileUtil.writeToFileAtomically(file, "third");
+        assertEquals("second", FileUtil.readFromFile(backup));
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,31 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_writtenOnSingleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+        SerializableTestClass readBack = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void writeJson_openStream_streamLeftOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonUtil.writeJson(out, "first", true);
+        out.write(' ');
+        JsonUtil.writeJson(out, "second", true);
+
+        assertEquals("\"first\" \"second\"", out.toString(StandardCharsets.UTF_8));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,16 +1,26 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_FRONTIER;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_FRONTIER;
 import static seedu.address.logic.commands.CommandTestUtil.OPERATING_HOURS_DESC_FRONTIER;
 import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_FRONTIER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.FRONTIER;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +29,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -67,8 +79,13 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void getTopFiveStudySpotList() {
-        assertEquals(model.getTopFiveStudySpotList(), logic.getTopFiveStudySpotList());
+    public void getTopStudiedStudySpotList() {
+        assertEquals(model.getTopStudiedStudySpotList(), logic.getTopStudiedStudySpotList());
+    }
+
+    @Test
+    public void totalStudiedHoursProperty() {
+        assertEquals(model.totalStudiedHoursProperty(), logic.totalStudiedHoursProperty());
     }
 
     @Test
@@ -109,7 +126,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
         // Setup LogicManager with JsonStudyTrackerIoExceptionThrowingStub
         JsonStudyTrackerStorage studyTrackerStorage =
                 new JsonStudyTrackerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudyTracker.json"));
@@ -117,16 +134,109 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(studyTrackerStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> saveFailures = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureHandler(saveFailures::add);
 
-        // Execute add command
+        // Execute add command, which succeeds before the data is saved
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
                 + OPERATING_HOURS_DESC_FRONTIER
                 + ADDRESS_DESC_FRONTIER;
         StudySpot expectedStudySpot = new StudySpotBuilder(FRONTIER).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudySpot(expectedStudySpot);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        // the failed save is retried once before flushing returns
+        logic.flushPendingSaves();
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(expectedMessage, expectedMessage), saveFailures);
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedSave_savesAgain() throws Exception {
+        JsonStudyTrackerIoExceptionThrowingStub studyTrackerStorage =
+                new JsonStudyTrackerIoExceptionThrowingStub(temporaryFolder.resolve("studyTrackerStorage.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+        logic.flushPendingSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+
+        studyTrackerStorage.isFailing = false;
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertTrue(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+    }
+
+    @Test
+    public void execute_addCommand_savesOnlyStudyTracker() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER
+                + ADDRESS_DESC_FRONTIER;
+        logic.execute(addCommand);
+        logic.flushPendingSaves();
+
+        assertTrue(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_aliasCommand_savesOnlyUserPrefs() throws Exception {
+        logic.execute(AliasCommand.COMMAND_WORD + " " + PREFIX_ALIAS + "favs " + PREFIX_ALIAS_COMMAND + "list");
+        logic.flushPendingSaves();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+        assertTrue(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_failingBatchCommand_doesNotSave() throws Exception {
+        Path batchFile = temporaryFolder.resolve("batch.txt");
+        Files.write(batchFile, Arrays.asList(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER, "delete n/Nowhere"));
+        assertThrows(CommandException.class, () -> logic.execute(BatchCommand.COMMAND_WORD + " " + batchFile));
+        logic.flushPendingSaves();
+
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
+    }
+
+    @Test
+    public void isStudyTrackerLoaded() {
+        assertTrue(logic.isStudyTrackerLoaded());
+
+        StorageManager storage = new StorageManager(
+                new JsonStudyTrackerStorage(temporaryFolder.resolve("studyTrackerStorage.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        assertFalse(new LogicManager(model, storage, false).isStudyTrackerLoaded());
+    }
+
+    @Test
+    public void setLoadedStudyTracker_replacesDataWithoutSaving() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonStudyTrackerStorage(temporaryFolder.resolve("studyTrackerStorage.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, false);
+
+        logic.setLoadedStudyTracker(getTypicalStudyTracker());
+        assertTrue(logic.isStudyTrackerLoaded());
+        assertEquals(getTypicalStudyTracker(), model.getStudyTracker());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("studyTrackerStorage.json")));
     }
 
     @Test
@@ -188,16 +298,21 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when the save method is called, until told to stop failing.
      */
     private static class JsonStudyTrackerIoExceptionThrowingStub extends JsonStudyTrackerStorage {
+        private volatile boolean isFailing = true;
+
         private JsonStudyTrackerIoExceptionThrowingStub(Path filePath) {
             super(filePath);
         }
 
         @Override
         public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveStudyTracker(studyTracker, filePath);
         }
     }
 }
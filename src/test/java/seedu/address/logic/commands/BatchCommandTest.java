@@ -0,0 +1,175 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_NAME;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.DECK;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.Alias;
+import seedu.address.testutil.StudySpotUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+    }
+
+    @Test
+    public void execute_validCommands_allApplied() throws IOException {
+        Path batchFile = writeBatchFile("# adds two study spots", StudySpotUtil.getAddCommand(DECK), "",
+                "  " + StudySpotUtil.getAddCommand(BIZ_PODS), "delete n/" + STARBUCKS.getName(),
+                "alias al/ls cmd/list");
+
+        Model expectedModel = new ModelManager(model.getStudyTracker(), new UserPrefs());
+        expectedModel.addStudySpot(DECK);
+        expectedModel.addStudySpot(BIZ_PODS);
+        expectedModel.deleteStudySpot(STARBUCKS);
+        expectedModel.addAlias(new Alias("ls", "list"));
+
+        assertCommandSuccess(new BatchCommand(batchFile), model,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 4, batchFile), expectedModel);
+    }
+
+    @Test
+    public void execute_filterCommands_everyLineRejected() throws IOException {
+        Path batchFile = writeBatchFile("list", "find starbucks", StudySpotUtil.getAddCommand(DECK));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINES, 2, batchFile,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 1,
+                        String.format(BatchCommand.MESSAGE_READ_ONLY_COMMAND, ListCommand.COMMAND_WORD))
+                + String.format(BatchCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(BatchCommand.MESSAGE_READ_ONLY_COMMAND, FindCommand.COMMAND_WORD)));
+        assertCommandFailure(new BatchCommand(batchFile), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_helpAndExit_everyLineRejected() throws IOException {
+        Path batchFile = writeBatchFile(StudySpotUtil.getAddCommand(DECK), "help", "exit");
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINES, 2, batchFile,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(BatchCommand.MESSAGE_READ_ONLY_COMMAND, HelpCommand.COMMAND_WORD))
+                + String.format(BatchCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(BatchCommand.MESSAGE_READ_ONLY_COMMAND, ExitCommand.COMMAND_WORD)));
+        assertCommandFailure(new BatchCommand(batchFile), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_aliasSetByBatch_laterLinesRejected() throws IOException {
+        Path batchFile = writeBatchFile("rm n/" + STARBUCKS.getName(), "alias al/rm cmd/delete",
+                "rm n/" + STARBUCKS.getName());
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINES, 2, batchFile,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 1, MESSAGE_UNKNOWN_COMMAND)
+                + String.format(BatchCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(BatchCommand.MESSAGE_BATCH_ALIAS, "rm")));
+        assertCommandFailure(new BatchCommand(batchFile), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_aliasSetBeforeBatch_expanded() throws IOException {
+        model.addAlias(new Alias("rm", "delete"));
+        Path batchFile = writeBatchFile("rm n/" + STARBUCKS.getName());
+
+        Model expectedModel = new ModelManager(model.getStudyTracker(), model.getUserPrefs());
+        expectedModel.deleteStudySpot(STARBUCKS);
+
+        assertCommandSuccess(new BatchCommand(batchFile), model,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 1, batchFile), expectedModel);
+    }
+
+    @Test
+    public void execute_emptyFile_success() throws IOException {
+        Path batchFile = writeBatchFile();
+        Model expectedModel = new ModelManager(model.getStudyTracker(), new UserPrefs());
+        assertCommandSuccess(new BatchCommand(batchFile), model,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 0, batchFile), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidLines_everyInvalidLineReported() throws IOException {
+        Path batchFile = writeBatchFile(StudySpotUtil.getAddCommand(DECK), "plant", "# comment", "delete",
+                "batch other.txt");
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINES, 3, batchFile,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND)
+                + String.format(BatchCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE))
+                + String.format(BatchCommand.MESSAGE_LINE_ERROR, 5, BatchCommand.MESSAGE_NESTED_BATCH));
+        assertCommandFailure(new BatchCommand(batchFile), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_failingCommand_nothingApplied() throws IOException {
+        Path batchFile = writeBatchFile(StudySpotUtil.getAddCommand(DECK), "alias al/ls cmd/list",
+                "delete n/Nowhere", StudySpotUtil.getAddCommand(BIZ_PODS));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED_LINE, batchFile,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_NAME));
+        assertCommandFailure(new BatchCommand(batchFile), model, expectedMessage);
+        assertEquals(new UserPrefs(), model.getUserPrefs());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        BatchCommand batchCommand = new BatchCommand(testFolder.resolve("missing.txt"));
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Paths.get("batch.txt"));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Paths.get("batch.txt"))));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Paths.get("other.txt"))));
+    }
+
+    private Path writeBatchFile(String... lines) throws IOException {
+        Path batchFile = testFolder.resolve("batch.txt");
+        Files.write(batchFile, Arrays.asList(lines));
+        return batchFile;
+    }
+}
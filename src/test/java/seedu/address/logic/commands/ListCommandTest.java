@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_DECK;
@@ -7,22 +8,25 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showNoStudySpot;
 import static seedu.address.logic.commands.CommandTestUtil.showStudySpotAtIndex;
 import static seedu.address.logic.commands.ListCommand.MESSAGE_SUCCESS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_FAVOURITES;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SPOT;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.StudyTracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
@@ -42,12 +46,12 @@ public class ListCommandTest {
     private static final Amenity charger = new Amenity("charger");
     private static final Rating ratingZero = new Rating("0");
     private static final Rating ratingFive = new Rating("5");
-    private static final Predicate<StudySpot> coffeeTest = ListCommand.containsTag(coffee);
-    private static final Predicate<StudySpot> coldTest = ListCommand.containsTag(cold);
-    private static final Predicate<StudySpot> wifiTest = ListCommand.containsAmenity(wifi);
-    private static final Predicate<StudySpot> chargerTest = ListCommand.containsAmenity(charger);
-    private static final Predicate<StudySpot> zeroRatingTest = ListCommand.containsRating(ratingZero);
-    private static final Predicate<StudySpot> fiveRatingTest = ListCommand.containsRating(ratingFive);
+    private static final Rating ratingFour = new Rating("4");
+    private static final Predicate<StudySpot> coffeeTest = studySpot -> studySpot.getTags().contains(coffee);
+    private static final Predicate<StudySpot> coldTest = studySpot -> studySpot.getTags().contains(cold);
+    private static final Predicate<StudySpot> wifiTest = studySpot -> studySpot.getAmenities().contains(wifi);
+    private static final Predicate<StudySpot> chargerTest = studySpot -> studySpot.getAmenities().contains(charger);
+    private static final Predicate<StudySpot> fiveRatingTest = studySpot -> studySpot.getRating().equals(ratingFive);
     private static final Set<Tag> tagCoffeeSet = new HashSet<>(Arrays.asList(coffee));
     private static final Set<Tag> tagColdSet = new HashSet<>(Arrays.asList(cold));
     private static final Set<Amenity> amenitySet = new HashSet<>(Arrays.asList(wifi, charger));
@@ -66,15 +70,13 @@ public class ListCommandTest {
 
     @Test
     public void execute_listIsNotFiltered_showsSameList() {
-        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null), model,
-                MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new ListCommand(false, null, null, null), model, MESSAGE_SUCCESS, expectedModel);
     }
 
     @Test
     public void execute_listIsFiltered_showsEverything() {
         showStudySpotAtIndex(model, INDEX_FIRST_SPOT);
-        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null), model,
-                MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new ListCommand(false, null, null, null), model, MESSAGE_SUCCESS, expectedModel);
     }
 
     @Test
@@ -85,9 +87,8 @@ public class ListCommandTest {
         assertTrue(studySpot.getTags().contains(coffee));
         showStudySpotAtIndex(model, INDEX_FIRST_SPOT);
         showStudySpotAtIndex(expectedModel, INDEX_FIRST_SPOT);
-        Predicate<StudySpot> predicate = ListCommand.containsTag(coffee);
-        assertCommandSuccess(new ListCommand(predicate, true, tagSet, amenitySet, ratingFive), model,
-                MESSAGE_SUCCESS + ListCommand.getFilterMessage(true, tagSet, amenitySet, ratingFive),
+        assertCommandSuccess(new ListCommand(false, tagSet, amenitySet, ratingFour), model,
+                MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, tagSet, amenitySet, ratingFour),
                 expectedModel);
     }
 
@@ -97,9 +98,7 @@ public class ListCommandTest {
         Set<Tag> tagSet = new HashSet<>(Arrays.asList(tag));
         showStudySpotAtIndex(model, INDEX_FIRST_SPOT);
         showNoStudySpot(expectedModel);
-        Predicate<StudySpot> predicate = ListCommand.containsTag(tag);
-        assertTrue(model.getFullList().stream().filter(predicate).collect(Collectors.toList()).isEmpty());
-        assertCommandSuccess(new ListCommand(predicate, false, tagSet, null, null), model,
+        assertCommandSuccess(new ListCommand(false, tagSet, null, null), model,
                 MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, tagSet, null, null), expectedModel);
     }
 
@@ -108,7 +107,7 @@ public class ListCommandTest {
         // Expected model
         expectedModel.updateFilteredStudySpotList(PREDICATE_SHOW_FAVOURITES);
 
-        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_FAVOURITES, true, null, null, null), model,
+        assertCommandSuccess(new ListCommand(true, null, null, null), model,
                 MESSAGE_SUCCESS + ListCommand.getFilterMessage(true, null, null, null), expectedModel);
     }
 
@@ -116,7 +115,7 @@ public class ListCommandTest {
     public void execute_listIsNotFiltered_showsStudySpotsWithCoffeeTag() {
         expectedModel.updateFilteredStudySpotList(coffeeTest);
 
-        assertCommandSuccess(new ListCommand(coffeeTest, false, tagCoffeeSet, null, null), model,
+        assertCommandSuccess(new ListCommand(false, tagCoffeeSet, null, null), model,
                 MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, tagCoffeeSet, null, null), expectedModel);
 
     }
@@ -125,7 +124,7 @@ public class ListCommandTest {
     public void execute_listIsNotFiltered_showsStudySpotsWithWifiAmenity() {
         expectedModel.updateFilteredStudySpotList(wifiTest);
 
-        assertCommandSuccess(new ListCommand(wifiTest, false, null, amenityWifiSet, null), model,
+        assertCommandSuccess(new ListCommand(false, null, amenityWifiSet, null), model,
                 MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, null, amenityWifiSet, null), expectedModel);
 
     }
@@ -134,16 +133,80 @@ public class ListCommandTest {
     public void execute_listIsNotFiltered_showsStudySpotsWithFiveRating() {
         expectedModel.updateFilteredStudySpotList(fiveRatingTest);
 
-        assertCommandSuccess(new ListCommand(fiveRatingTest, false, null, null, ratingFive), model,
+        assertCommandSuccess(new ListCommand(false, null, null, ratingFive), model,
                 MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, null, null, ratingFive), expectedModel);
 
     }
 
+    @Test
+    public void execute_indexedFilter_showsStudySpotsWithAllAttributes() {
+        Set<Amenity> wifiAndChargerSet = new HashSet<>(Arrays.asList(wifi, charger));
+        expectedModel.updateFilteredStudySpotList(PREDICATE_SHOW_FAVOURITES.and(coldTest).and(wifiTest)
+                .and(chargerTest));
+
+        assertCommandSuccess(new ListCommand(true, tagColdSet, wifiAndChargerSet, null), model,
+                MESSAGE_SUCCESS + ListCommand.getFilterMessage(true, tagColdSet, wifiAndChargerSet, null),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_indexedFilterNoMatch_showsNoStudySpot() {
+        showNoStudySpot(expectedModel);
+
+        assertCommandSuccess(new ListCommand(false, tagCoffeeSet, null, ratingFive), model,
+                MESSAGE_SUCCESS + ListCommand.getFilterMessage(false, tagCoffeeSet, null, ratingFive),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_tagFilterThenAddMatchingStudySpot_studySpotShown() {
+        new ListCommand(false, tagColdSet, null, null).execute(model);
+        StudySpot coldSpot = new StudySpotBuilder().withName("Cold Room").withTags("cold").build();
+        model.addStudySpot(coldSpot);
+        assertTrue(model.getFilteredStudySpotList().contains(coldSpot));
+    }
+
+    @Test
+    public void execute_tagFilterThenEditStudySpots_filterUsesNewAttributes() {
+        new ListCommand(false, tagColdSet, null, null).execute(model);
+        StudySpot starbucks = model.getFullList().get(0);
+        StudySpot coldStarbucks = new StudySpotBuilder(starbucks).withName("Cold Starbucks").withTags("cold").build();
+        model.setStudySpot(starbucks, coldStarbucks);
+        assertTrue(model.getFilteredStudySpotList().contains(coldStarbucks));
+
+        StudySpot warmStarbucks = new StudySpotBuilder(coldStarbucks).withTags("warm").build();
+        model.setStudySpot(coldStarbucks, warmStarbucks);
+        assertFalse(model.getFilteredStudySpotList().contains(warmStarbucks));
+    }
+
+    @Test
+    public void execute_tagFilterThenReplaceStudyTracker_matchingStudySpotsShown() {
+        new ListCommand(false, tagColdSet, null, null).execute(model);
+        StudyTracker studyTracker = new StudyTracker();
+        StudySpot coldSpot = new StudySpotBuilder().withName("Cold Room").withTags("cold").build();
+        studyTracker.addStudySpot(coldSpot);
+        studyTracker.addStudySpot(new StudySpotBuilder().withName("Warm Room").withTags("warm").build());
+        model.setStudyTracker(studyTracker);
+
+        assertEquals(Collections.singletonList(coldSpot), model.getFilteredStudySpotList());
+    }
+
+    @Test
+    public void execute_openAtFilter_showsStudySpotsOpenAtTime() {
+        LocalDateTime mondayMorning = LocalDateTime.of(2021, 11, 1, 10, 0);
+        expectedModel.updateFilteredStudySpotList(ListCommand.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(10, 0)));
+        assertFalse(expectedModel.getFilteredStudySpotList().isEmpty());
+
+        assertCommandSuccess(new ListCommand(false, null, null, null, mondayMorning), model,
+                MESSAGE_SUCCESS + " open at: Monday 1000", expectedModel);
+    }
+
     @Test
     public void equals() {
-        // Predicate does not affect equality -> returns true
-        ListCommand cmd1 = new ListCommand(PREDICATE_SHOW_FAVOURITES, false, null, null, null);
-        ListCommand cmd2 = new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null);
+        ListCommand cmd1 = new ListCommand(false, null, null, null);
+        ListCommand cmd2 = new ListCommand(false, null, null, null);
+
+        // same values -> returns true
         assertTrue(cmd1.equals(cmd2));
 
         // same object -> returns true
@@ -152,56 +215,28 @@ public class ListCommandTest {
         // different command types -> returns false
         assertFalse(cmd1.equals(new FavouriteCommand(new Name(VALID_NAME_DECK))));
 
-        ListCommand cmd3 = new ListCommand(PREDICATE_SHOW_FAVOURITES, true, null, null, null);
-        ListCommand cmd4 = new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null);
-        assertFalse(cmd3.equals(cmd4));
+        // different favourites flag -> returns false
+        assertFalse(new ListCommand(true, null, null, null).equals(cmd1));
 
         // different tags -> returns false
-        ListCommand cmd5 = new ListCommand(coffeeTest, false, tagCoffeeSet, amenitySet, ratingFive);
-        ListCommand cmd6 = new ListCommand(coffeeTest, false, tagColdSet, amenitySet, ratingFive);
+        ListCommand cmd5 = new ListCommand(false, tagCoffeeSet, amenitySet, ratingFive);
+        ListCommand cmd6 = new ListCommand(false, tagColdSet, amenitySet, ratingFive);
         assertFalse(cmd5.equals(cmd6));
 
         // different amenities -> returns false
-        ListCommand cmd7 = new ListCommand(coffeeTest, false, tagCoffeeSet, amenitySet, ratingFive);
-        ListCommand cmd8 = new ListCommand(coffeeTest, false, tagCoffeeSet, amenityWifiSet, ratingFive);
+        ListCommand cmd7 = new ListCommand(false, tagCoffeeSet, amenitySet, ratingFive);
+        ListCommand cmd8 = new ListCommand(false, tagCoffeeSet, amenityWifiSet, ratingFive);
         assertFalse(cmd7.equals(cmd8));
 
         // different ratings -> returns false
-        ListCommand cmd9 = new ListCommand(coffeeTest, false, tagCoffeeSet, amenitySet, ratingFive);
-        ListCommand cmd10 = new ListCommand(coffeeTest, false, tagCoffeeSet, amenitySet, ratingZero);
+        ListCommand cmd9 = new ListCommand(false, tagCoffeeSet, amenitySet, ratingFive);
+        ListCommand cmd10 = new ListCommand(false, tagCoffeeSet, amenitySet, ratingZero);
         assertFalse(cmd9.equals(cmd10));
 
-    }
-
-    @Test
-    public void containsAmenity() {
-        StudySpot studySpot = new StudySpotBuilder().build();
-        StudySpot studySpotWifi = new StudySpotBuilder().withAmenities("wifi").build();
-        StudySpot studySpotCharger = new StudySpotBuilder().withAmenities("charger").build();
-        Predicate<StudySpot> wifiTest = ListCommand.containsAmenity(wifi);
-        Predicate<StudySpot> chargerTest = ListCommand.containsAmenity(charger);
-
-        assertTrue(wifiTest.test(studySpotWifi));
-        assertTrue(chargerTest.test(studySpotCharger));
-
-        assertFalse(chargerTest.test(studySpotWifi));
-        assertFalse(wifiTest.test(studySpotCharger));
-
-        assertFalse(chargerTest.test(studySpot));
-        assertFalse(wifiTest.test(studySpot));
-    }
-
-    @Test
-    public void containsRating() {
-        StudySpot studySpotZero = new StudySpotBuilder().withRating("0").build();
-        StudySpot studySpotFive = new StudySpotBuilder().withRating("5").build();
-        Predicate<StudySpot> zeroTest = ListCommand.containsRating(ratingZero);
-        Predicate<StudySpot> fiveTest = ListCommand.containsRating(ratingFive);
-
-        assertTrue(zeroTest.test(studySpotZero));
-        assertTrue(fiveTest.test(studySpotFive));
+        // different open at times -> returns false
+        ListCommand cmd11 = new ListCommand(false, null, null, null, LocalDateTime.of(2021, 11, 1, 10, 0));
+        ListCommand cmd12 = new ListCommand(false, null, null, null, LocalDateTime.of(2021, 11, 1, 11, 0));
+        assertFalse(cmd11.equals(cmd12));
 
-        assertFalse(zeroTest.test(studySpotFive));
-        assertFalse(fiveTest.test(studySpotZero));
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void getCommand() {
+        CommandDescriptor list = CommandRegistry.getCommand(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.COMMAND_WORD, list.getCommandWord());
+        assertEquals("List", list.getDisplayName());
+        assertEquals(ListCommand.MESSAGE_USAGE, list.getUsage());
+        assertFalse(list.isMutating());
+
+        assertTrue(CommandRegistry.getCommand(LogCommand.COMMAND_WORD).isMutating());
+        assertFalse(CommandRegistry.getCommand(ExitCommand.COMMAND_WORD).isMutating());
+        assertNull(CommandRegistry.getCommand("unknown"));
+        assertNull(CommandRegistry.getCommand("List"));
+    }
+
+    @Test
+    public void getCommands_everyCommandRegisteredOnce() {
+        assertEquals(14, CommandRegistry.getCommands().size());
+        for (CommandDescriptor command : CommandRegistry.getCommands()) {
+            assertEquals(command, CommandRegistry.getCommand(command.getCommandWord()));
+        }
+    }
+
+    @Test
+    public void isCommandWord() {
+        assertTrue(CommandRegistry.isCommandWord("list"));
+        assertTrue(CommandRegistry.isCommandWord("log"));
+        assertFalse(CommandRegistry.isCommandWord("unknown"));
+    }
+
+    @Test
+    public void parse_commandWithoutArguments_ignoresArguments() throws Exception {
+        assertTrue(CommandRegistry.getCommand(ClearCommand.COMMAND_WORD).parse(" 3") instanceof ClearCommand);
+    }
+}
@@ -136,6 +136,36 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognized() {
+        Prefix p = new Prefix("p");
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p/ slash p// double p single pp/ none";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, p, pSlash, pSlashSlash);
+
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "slash");
+        assertArgumentPresent(argMultimap, pSlashSlash, "double");
+        assertArgumentPresent(argMultimap, p, "single", "p/ none");
+    }
+
+    @Test
+    public void tokenize_differentPrefixesForSameString_onlyGivenPrefixesRecognized() {
+        String argsString = "preamble p/ pSlash -t dashT";
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "pSlash -t dashT");
+        assertArgumentAbsent(argMultimap, dashT);
+
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertPreamblePresent(argMultimap, "preamble p/ pSlash");
+        assertArgumentPresent(argMultimap, dashT, "dashT");
+
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, "pSlash");
+        assertArgumentPresent(argMultimap, dashT, "dashT");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
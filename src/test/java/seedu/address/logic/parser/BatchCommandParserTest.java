@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+
+public class BatchCommandParserTest {
+
+    private final BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        assertParseSuccess(parser, " data/spots.txt", new BatchCommand(Paths.get("data/spots.txt")));
+
+        // surrounding whitespace is ignored
+        assertParseSuccess(parser, " \t data/spots.txt \n", new BatchCommand(Paths.get("data/spots.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+
+        // no file path
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "   ", expectedMessage);
+
+        // invalid file path
+        assertParseFailure(parser, " spots\0.txt", expectedMessage);
+    }
+}
@@ -1,32 +1,33 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.commands.ListCommand.containsAmenity;
-import static seedu.address.logic.commands.ListCommand.containsTag;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
-import static seedu.address.model.Model.PREDICATE_SHOW_FAVOURITES;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.model.amenity.Amenity;
+import seedu.address.model.studyspot.OperatingHours;
 import seedu.address.model.studyspot.Rating;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
 public class ListCommandParserTest {
 
-    private ListCommandParser parser = new ListCommandParser();
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 11, 2, 23, 59, 59);
+
+    private ListCommandParser parser = new ListCommandParser(
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
 
     @Test
     public void parse_validArgs_returnsListCommand() {
-        assertParseSuccess(parser, "1", new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null));
+        assertParseSuccess(parser, "1", new ListCommand(false, null, null, null));
     }
 
     @Test
@@ -67,8 +68,28 @@ public class ListCommandParserTest {
 
     @Test
     public void parse_favouriteFlag_returnsListCommand() {
-        assertParseSuccess(parser, " -f", new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS.and(PREDICATE_SHOW_FAVOURITES),
-                true, null, null, null));
+        assertParseSuccess(parser, " -f", new ListCommand(true, null, null, null));
+    }
+
+    @Test
+    public void parse_rating_returnsListCommand() {
+        assertParseSuccess(parser, " -r r/5", new ListCommand(false, null, null, new Rating("5")));
+    }
+
+    @Test
+    public void parse_openAt_returnsListCommand() {
+        assertParseSuccess(parser, " -o o/1400", new ListCommand(false, null, null, null,
+                NOW.toLocalDate().atTime(14, 0)));
+    }
+
+    @Test
+    public void parse_openNow_returnsListCommand() {
+        assertParseSuccess(parser, " -o", new ListCommand(false, null, null, null, NOW));
+    }
+
+    @Test
+    public void parse_invalidOpenAt_throwsParseException() {
+        assertParseFailure(parser, " -o o/2500", OperatingHours.MESSAGE_TIME_CONSTRAINTS);
     }
 
     @Test
@@ -76,8 +97,7 @@ public class ListCommandParserTest {
         Tag coldTag = new Tag("cold");
         Tag warmTag = new Tag("warm");
         Set<Tag> tagSet = new HashSet<Tag>(Arrays.asList(coldTag, warmTag));
-        Predicate<StudySpot> predicate = containsTag(coldTag).and(containsTag(warmTag));
-        assertParseSuccess(parser, " -t t/cold t/warm", new ListCommand(predicate, false, tagSet, null, null));
+        assertParseSuccess(parser, " -t t/cold t/warm", new ListCommand(false, tagSet, null, null));
     }
 
     @Test
@@ -85,7 +105,6 @@ public class ListCommandParserTest {
         Amenity wifi = new Amenity("wifi");
         Amenity charger = new Amenity("charger");
         Set<Amenity> amenitySet = new HashSet<>(Arrays.asList(wifi, charger));
-        Predicate<StudySpot> predicate = containsAmenity(wifi).and(containsAmenity(charger));
-        assertParseSuccess(parser, " -m m/wifi m/charger", new ListCommand(predicate, false, null, amenitySet, null));
+        assertParseSuccess(parser, " -m m/wifi m/charger", new ListCommand(false, null, amenitySet, null));
     }
 }
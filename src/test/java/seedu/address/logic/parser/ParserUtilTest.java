@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SPOT;
 
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -151,6 +152,17 @@ public class ParserUtilTest {
         assertEquals(expectedOperatingHours, ParserUtil.parseOperatingHours(operatingHoursWithWhitespace));
     }
 
+    @Test
+    public void parseTime_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTime("2400"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTime("14:00"));
+    }
+
+    @Test
+    public void parseTime_validValueWithWhitespace_returnsLocalTime() throws Exception {
+        assertEquals(LocalTime.of(14, 5), ParserUtil.parseTime(WHITESPACE + "1405" + WHITESPACE));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTag(null));
@@ -11,6 +11,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -34,6 +36,7 @@ import seedu.address.logic.commands.UnaliasCommand;
 import seedu.address.logic.commands.UnfavouriteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasRegistry;
 import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.NameContainsKeywordsPredicate;
 import seedu.address.model.studyspot.StudiedHours;
@@ -44,7 +47,8 @@ import seedu.address.testutil.StudySpotUtil;
 
 public class StudyTrackerParserTest {
 
-    private static final List<Alias> ALIAS_LIST = Collections.singletonList(new Alias("ls", "list"));
+    private static final AliasRegistry ALIAS_LIST = new AliasRegistry(Arrays.asList(new Alias("ls", "list"),
+            new Alias("fl", "find finder"), new Alias("lf", "list -f")));
     private final StudyTrackerParser parser = new StudyTrackerParser();
 
     @Test
@@ -54,6 +58,13 @@ public class StudyTrackerParserTest {
         assertEquals(new AddCommand(studySpot), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(
+                BatchCommand.COMMAND_WORD + " data/spots.txt", ALIAS_LIST);
+        assertEquals(new BatchCommand(Paths.get("data/spots.txt")), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD, ALIAS_LIST) instanceof ClearCommand);
@@ -150,6 +161,14 @@ public class StudyTrackerParserTest {
         assertTrue(parser.parseCommand("ls", ALIAS_LIST) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_aliasWithArguments_expandsArgumentsOnce() throws Exception {
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("finder", "library"))),
+                parser.parseCommand("fl library", ALIAS_LIST));
+        assertEquals(parser.parseCommand(ListCommand.COMMAND_WORD + " -f", ALIAS_LIST),
+                parser.parseCommand("lf", ALIAS_LIST));
+    }
+
     @Test
     public void parseCommand_unknownAlias_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
@@ -167,4 +186,25 @@ public class StudyTrackerParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
                 "unknownCommand", ALIAS_LIST));
     }
+
+    @Test
+    public void parseCommandDescriptor_commandWordOrAlias_returnsDescriptor() throws Exception {
+        assertEquals(DeleteCommand.COMMAND_WORD,
+                parser.parseCommandDescriptor(DeleteCommand.COMMAND_WORD + " 1", ALIAS_LIST).getCommandWord());
+        assertEquals(ListCommand.COMMAND_WORD, parser.parseCommandDescriptor("ls -f", ALIAS_LIST).getCommandWord());
+    }
+
+    @Test
+    public void parseCommandDescriptor_invalidArguments_returnsDescriptor() throws Exception {
+        assertEquals(DeleteCommand.COMMAND_WORD,
+                parser.parseCommandDescriptor(DeleteCommand.COMMAND_WORD, ALIAS_LIST).getCommandWord());
+    }
+
+    @Test
+    public void parseCommandDescriptor_unknownCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommandDescriptor(
+                "unknownCommand", ALIAS_LIST));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommandDescriptor("", ALIAS_LIST));
+    }
 }
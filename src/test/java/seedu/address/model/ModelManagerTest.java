@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ALIAS_COMMAND_EXIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ALIAS_COMMAND_LIST;
@@ -15,10 +17,12 @@ import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
 import seedu.address.model.studyspot.NameContainsKeywordsPredicate;
@@ -56,6 +60,33 @@ public class ModelManagerTest {
         assertEquals(oldUserPrefs, modelManager.getUserPrefs());
     }
 
+    @Test
+    public void getVersions_studyTrackerChanged_onlyStudyTrackerVersionChanges() {
+        long studyTrackerVersion = modelManager.getStudyTrackerVersion();
+        long userPrefsVersion = modelManager.getUserPrefsVersion();
+
+        modelManager.addStudySpot(STARBUCKS);
+        assertNotEquals(studyTrackerVersion, modelManager.getStudyTrackerVersion());
+        assertEquals(userPrefsVersion, modelManager.getUserPrefsVersion());
+
+        // reading data does not change either version
+        studyTrackerVersion = modelManager.getStudyTrackerVersion();
+        modelManager.updateFilteredStudySpotList(PREDICATE_SHOW_ALL_STUDYSPOTS);
+        modelManager.hasStudySpot(STARBUCKS);
+        assertEquals(studyTrackerVersion, modelManager.getStudyTrackerVersion());
+        assertEquals(userPrefsVersion, modelManager.getUserPrefsVersion());
+    }
+
+    @Test
+    public void getVersions_userPrefsChanged_onlyUserPrefsVersionChanges() {
+        long studyTrackerVersion = modelManager.getStudyTrackerVersion();
+        long userPrefsVersion = modelManager.getUserPrefsVersion();
+
+        modelManager.addAlias(new Alias(VALID_ALIAS_PWD, VALID_ALIAS_COMMAND_EXIT));
+        assertNotEquals(userPrefsVersion, modelManager.getUserPrefsVersion());
+        assertEquals(studyTrackerVersion, modelManager.getStudyTrackerVersion());
+    }
+
     @Test
     public void setGuiSettings_nullGuiSettings_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
@@ -95,6 +126,8 @@ public class ModelManagerTest {
         Alias pwdAlias = new Alias(VALID_ALIAS_PWD, VALID_ALIAS_COMMAND_LIST);
         modelManager.addAlias(pwdAlias);
         assertTrue(modelManager.hasAlias(pwdAlias));
+        assertEquals(VALID_ALIAS_COMMAND_LIST,
+                modelManager.getUserPrefs().getAliasRegistry().getExpansion(VALID_ALIAS_PWD).getCommandWord());
     }
 
     @Test
@@ -130,6 +163,7 @@ public class ModelManagerTest {
         List<Alias> initialAliases = modelManager.getUserPrefs().getUserAliases();
         modelManager.removeAlias(toRemove);
         assertFalse(modelManager.hasAlias(toRemove));
+        assertNull(modelManager.getUserPrefs().getAliasRegistry().getExpansion(VALID_ALIAS_LS));
     }
 
     @Test
@@ -186,6 +220,47 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudySpotList().remove(0));
     }
 
+    @Test
+    public void getTopStudiedStudySpotList_studySpotsChanged_updatesInPlace() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setLeaderboardSize(1);
+        modelManager = new ModelManager(new StudyTracker(), userPrefs);
+        ObservableList<StudySpot> topStudySpots = modelManager.getTopStudiedStudySpotList();
+        StudySpot loggedStarbucks = new StudySpotBuilder(STARBUCKS).withStudiedHours("30").build();
+
+        modelManager.addStudySpot(CENTRAL_LIBRARY);
+        modelManager.addStudySpot(STARBUCKS);
+        assertEquals(Collections.singletonList(CENTRAL_LIBRARY), topStudySpots);
+
+        modelManager.setStudySpot(STARBUCKS, loggedStarbucks);
+        assertEquals(Collections.singletonList(loggedStarbucks), topStudySpots);
+
+        modelManager.deleteStudySpot(loggedStarbucks);
+        assertEquals(Collections.singletonList(CENTRAL_LIBRARY), topStudySpots);
+
+        modelManager.setStudyTracker(new StudyTracker());
+        assertTrue(topStudySpots.isEmpty());
+    }
+
+    @Test
+    public void totalStudiedHoursProperty_studySpotsChanged_keepsRunningTotal() {
+        StudySpot loggedStarbucks = new StudySpotBuilder(STARBUCKS).withStudiedHours("30").build();
+
+        modelManager.addStudySpot(CENTRAL_LIBRARY);
+        modelManager.addStudySpot(STARBUCKS);
+        assertEquals(10, modelManager.totalStudiedHoursProperty().get());
+
+        modelManager.setStudySpot(STARBUCKS, loggedStarbucks);
+        assertEquals(35, modelManager.totalStudiedHoursProperty().get());
+
+        modelManager.removeStudySpotFromFavourites(CENTRAL_LIBRARY);
+        modelManager.deleteStudySpot(loggedStarbucks);
+        assertEquals(5, modelManager.totalStudiedHoursProperty().get());
+
+        modelManager.setStudyTracker(new StudyTracker());
+        assertEquals(0, modelManager.totalStudiedHoursProperty().get());
+    }
+
     @Test
     public void equals() {
         StudyTracker studyTracker = new StudyTrackerBuilder().withStudySpot(STARBUCKS)
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -23,6 +29,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getUserPrefsVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         throw new AssertionError("This method should not be called.");
@@ -73,6 +84,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getStudyTrackerVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasStudySpot(StudySpot studySpot) {
         throw new AssertionError("This method should not be called.");
@@ -124,13 +140,33 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<StudySpot> getStudySpotAttributeFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<StudySpot> getFullList() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<StudySpot> getTopFiveStudySpotList() {
+    public ObservableList<StudySpot> getTopStudiedStudySpotList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyLongProperty totalStudiedHoursProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableMap<Tag, Long> getStudiedHoursByTag() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableMap<Amenity, Long> getStudiedHoursByAmenity() {
         throw new AssertionError("This method should not be called.");
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_QUIET;
@@ -15,13 +16,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.StudySpotBuilder;
 
 public class StudyTrackerTest {
@@ -57,6 +62,25 @@ public class StudyTrackerTest {
         assertThrows(DuplicateStudySpotException.class, () -> studyTracker.resetData(newData));
     }
 
+    @Test
+    public void loadStudySpots_withFavourites_replacesDataAndFavourites() {
+        StudySpot favStarbucks = new StudySpotBuilder(STARBUCKS).withFavourite(true).build();
+        studyTracker.addStudySpot(DECK);
+        studyTracker.loadStudySpots(Arrays.asList(favStarbucks, DECK));
+
+        assertEquals(Arrays.asList(favStarbucks, DECK), studyTracker.getStudySpotList());
+        assertEquals(Collections.singletonList(favStarbucks), studyTracker.getFavouriteStudySpotList());
+    }
+
+    @Test
+    public void loadStudySpots_withDuplicateStudySpots_throwsDuplicateStudySpotException() {
+        studyTracker.addStudySpot(DECK);
+        List<StudySpot> newStudySpots = Arrays.asList(STARBUCKS, STARBUCKS);
+
+        assertThrows(DuplicateStudySpotException.class, () -> studyTracker.loadStudySpots(newStudySpots));
+        assertEquals(Collections.singletonList(DECK), studyTracker.getStudySpotList());
+    }
+
     @Test
     public void hasStudySpot_nullStudySpot_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> studyTracker.hasStudySpot(null));
@@ -82,6 +106,18 @@ public class StudyTrackerTest {
         assertTrue(studyTracker.hasStudySpot(editedStarbucks));
     }
 
+    @Test
+    public void findStudySpot_nameWithDifferentCase_returnsStudySpot() {
+        studyTracker.addStudySpot(STARBUCKS);
+        assertEquals(STARBUCKS, studyTracker.findStudySpot(new Name("STARBUCKS")));
+    }
+
+    @Test
+    public void findStudySpot_nameNotInStudyTracker_returnsNull() {
+        studyTracker.addStudySpot(STARBUCKS);
+        assertNull(studyTracker.findStudySpot(DECK.getName()));
+    }
+
     @Test
     public void setStudySpotInStudyTracker_replaceWithFavourite_returnsTrue() {
         StudySpot favStarbucks = new StudySpotBuilder(STARBUCKS).withFavourite(true).build();
@@ -140,6 +176,37 @@ public class StudyTrackerTest {
         assertThrows(UnsupportedOperationException.class, () -> studyTracker.getStudySpotList().remove(0));
     }
 
+    @Test
+    public void getAttributeFilter_studySpotsChanged_followsCurrentAttributes() {
+        Predicate<StudySpot> coffeeFilter = studyTracker.getAttributeFilter(
+                Collections.singleton(new Tag("coffee")), null, null);
+        studyTracker.addStudySpot(STARBUCKS);
+        assertTrue(coffeeFilter.test(STARBUCKS));
+
+        StudySpot teaStarbucks = new StudySpotBuilder(STARBUCKS).withTags("tea").build();
+        studyTracker.setStudySpot(STARBUCKS, teaStarbucks);
+        assertFalse(coffeeFilter.test(teaStarbucks));
+
+        studyTracker.resetData(getTypicalStudyTracker());
+        assertTrue(coffeeFilter.test(STARBUCKS));
+    }
+
+    @Test
+    public void getAttributeFilter_failedChanges_attributesUnchanged() {
+        Predicate<StudySpot> warmFilter = studyTracker.getAttributeFilter(
+                Collections.singleton(new Tag("warm")), null, null);
+        StudySpot warmStarbucks = new StudySpotBuilder(STARBUCKS).withTags("warm").build();
+        studyTracker.addStudySpot(STARBUCKS);
+
+        assertThrows(DuplicateStudySpotException.class, () -> studyTracker.addStudySpot(warmStarbucks));
+        assertThrows(StudySpotNotFoundException.class, () -> studyTracker.setStudySpot(DECK, warmStarbucks));
+        assertThrows(StudySpotNotFoundException.class, () -> studyTracker.removeStudySpot(warmStarbucks));
+        assertThrows(DuplicateStudySpotException.class, () -> studyTracker.setStudySpots(
+                Arrays.asList(warmStarbucks, STARBUCKS)));
+        assertFalse(warmFilter.test(STARBUCKS));
+        assertEquals(Collections.singletonList(STARBUCKS), studyTracker.getStudySpotList());
+    }
+
     @Test
     public void hashCode_test() {
         StudyTracker anotherSt = new StudyTracker();
@@ -12,8 +12,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasRegistry;
 
 public class UserPrefsTest {
 
@@ -29,12 +31,34 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setStudyTrackerFilePath(null));
     }
 
+    @Test
+    public void setStudyTrackerFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStudyTrackerFileFormat(null));
+    }
+
+    @Test
+    public void setLeaderboardSize_nonPositiveSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setLeaderboardSize(0));
+    }
+
     @Test
     public void setUserAliases_nullAliases_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setUserAliases(null));
     }
 
+    @Test
+    public void setUserAliases_aliases_rebuildsAliasRegistry() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(new AliasRegistry(UserPrefs.DEFAULT_PROGRAM_ALIASES), userPrefs.getAliasRegistry());
+
+        List<Alias> aliasList = Arrays.asList(new Alias("pwd", "list"));
+        userPrefs.setUserAliases(aliasList);
+        assertEquals(new AliasRegistry(aliasList), userPrefs.getAliasRegistry());
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs(); // default values
@@ -43,6 +67,10 @@ public class UserPrefsTest {
                 new GuiSettings(2103, 2103, 21, 22, "default"));
         UserPrefs changedFilePath = new UserPrefs();
         changedFilePath.setStudyTrackerFilePath(Paths.get("hi"));
+        UserPrefs changedFileFormat = new UserPrefs();
+        changedFileFormat.setStudyTrackerFileFormat(DataFileFormat.BINARY);
+        UserPrefs changedLeaderboardSize = new UserPrefs();
+        changedLeaderboardSize.setLeaderboardSize(10);
         UserPrefs changedAliasList = new UserPrefs();
         List<Alias> aliasList = Arrays.asList(
                 new Alias("ls", "list"),
@@ -65,6 +93,16 @@ public class UserPrefsTest {
         // different filePath -> false
         assertFalse(userPrefs.equals(changedFilePath));
 
+        // different file format -> false
+        assertFalse(userPrefs.equals(changedFileFormat));
+
+        // different leaderboard size -> false
+        assertFalse(userPrefs.equals(changedLeaderboardSize));
+
+        // copy -> true
+        assertTrue(changedFileFormat.equals(new UserPrefs(changedFileFormat)));
+        assertTrue(changedLeaderboardSize.equals(new UserPrefs(changedLeaderboardSize)));
+
         // different aliasList -> false
         assertFalse(userPrefs.equals(changedAliasList));
     }
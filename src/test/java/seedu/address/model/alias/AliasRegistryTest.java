@@ -0,0 +1,62 @@
+package seedu.address.model.alias;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasRegistryTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AliasRegistry(null));
+    }
+
+    @Test
+    public void getExpansion_commandWordOnly_noArguments() {
+        AliasRegistry.Expansion expansion = new AliasRegistry(Collections.singletonList(new Alias("ls", "list")))
+                .getExpansion("ls");
+        assertEquals("list", expansion.getCommandWord());
+        assertEquals("", expansion.getArguments());
+    }
+
+    @Test
+    public void getExpansion_commandWithArguments_splitAtFirstSpace() {
+        AliasRegistry.Expansion expansion = new AliasRegistry(Collections.singletonList(
+                new Alias("fl", "find n/find library"))).getExpansion("fl");
+        assertEquals("find", expansion.getCommandWord());
+        assertEquals(" n/find library", expansion.getArguments());
+    }
+
+    @Test
+    public void getExpansion_unknownAlias_returnsNull() {
+        AliasRegistry registry = new AliasRegistry(Collections.singletonList(new Alias("ls", "list")));
+        assertNull(registry.getExpansion("list"));
+        assertNull(registry.getExpansion("bye"));
+    }
+
+    @Test
+    public void getExpansion_sameUserAlias_lastOneUsed() {
+        AliasRegistry registry = new AliasRegistry(Arrays.asList(new Alias("ls", "list"), new Alias("ls", "exit")));
+        assertEquals("exit", registry.getExpansion("ls").getCommandWord());
+    }
+
+    @Test
+    public void equals() {
+        AliasRegistry registry = new AliasRegistry(Collections.singletonList(new Alias("ls", "list")));
+
+        // same values -> returns true
+        assertEquals(registry, new AliasRegistry(Collections.singletonList(new Alias("ls", "list"))));
+
+        // different expansion -> returns false
+        assertNotEquals(registry, new AliasRegistry(Collections.singletonList(new Alias("ls", "list -f"))));
+
+        // different alias -> returns false
+        assertNotEquals(registry, new AliasRegistry(Collections.singletonList(new Alias("pwd", "list"))));
+    }
+}
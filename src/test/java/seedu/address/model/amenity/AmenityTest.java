@@ -2,8 +2,15 @@ package seedu.address.model.amenity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class AmenityTest {
@@ -26,6 +33,34 @@ public class AmenityTest {
 
         // invalid amenity type
         assertFalse(Amenity.isValidAmenityType("carpark"));
+
+        // valid amenity type, ignoring case
+        assertTrue(Amenity.isValidAmenityType("wifi"));
+        assertTrue(Amenity.isValidAmenityType("AirCon"));
+    }
+
+    @Test
+    public void constructor_mixedCaseAmenityType_equalsLowerCaseAmenity() {
+        Amenity amenity = new Amenity("WiFi");
+        assertEquals("wifi", amenity.amenityType);
+        assertEquals(new Amenity("wifi"), amenity);
+    }
+
+    @Test
+    public void of_sameAmenityType_returnsSharedAmenity() {
+        assertSame(Amenity.of("wifi"), Amenity.of("WIFI"));
+        assertThrows(IllegalArgumentException.class, () -> Amenity.of("carpark"));
+    }
+
+    @Test
+    public void toMask_fromMask_roundTrips() {
+        Set<Amenity> amenities = new HashSet<>(Arrays.asList(new Amenity("wifi"), new Amenity("food")));
+        int mask = Amenity.toMask(amenities);
+
+        assertEquals(AmenityType.WIFI.getBit() | AmenityType.FOOD.getBit(), mask);
+        assertEquals(amenities, Amenity.fromMask(mask));
+        assertEquals(Collections.emptySet(), Amenity.fromMask(0));
+        assertThrows(IllegalArgumentException.class, () -> Amenity.fromMask(1 << AmenityType.values().length));
     }
 
     @Test
@@ -49,6 +49,15 @@ public class NameTest {
         assertFalse(new Name("other").equals(name));
     }
 
+    @Test
+    public void isSameNameCaseInsensitive_test() {
+        Name name = new Name("Starbucks UTown");
+
+        assertTrue(name.isSameNameCaseInsensitive(new Name("starbucks utown")));
+        assertEquals(new Name("STARBUCKS UTOWN").getCaseInsensitiveKey(), name.getCaseInsensitiveKey());
+        assertFalse(name.isSameNameCaseInsensitive(new Name("Starbucks")));
+    }
+
     @Test
     public void hashCode_test() {
         Name name = new Name("Starbucks UTown");
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 public class OperatingHoursTest {
@@ -63,6 +66,77 @@ public class OperatingHoursTest {
         assertTrue(OperatingHours.isValidOperatingHours("1800-1000, 0900-2200"));
         assertTrue(OperatingHours.isValidOperatingHours("0900-2200, 0930-0900"));
     }
+
+    @Test
+    public void isValidTime() {
+        assertTrue(OperatingHours.isValidTime("0000"));
+        assertTrue(OperatingHours.isValidTime("2359"));
+        assertFalse(OperatingHours.isValidTime("2400"));
+        assertFalse(OperatingHours.isValidTime("0960"));
+        assertFalse(OperatingHours.isValidTime("930"));
+        assertFalse(OperatingHours.isValidTime("09:30"));
+    }
+
+    @Test
+    public void isOpenAt() {
+        OperatingHours operatingHours = new OperatingHours("0900-2200, 1000-1800");
+
+        // weekdays
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(9, 0)));
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.FRIDAY, LocalTime.of(21, 59)));
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(22, 0)));
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(8, 59)));
+
+        // weekends
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(10, 0)));
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(9, 0)));
+
+        // no operating hours
+        assertFalse(OperatingHours.emptyOperatingHours().isOpenAt(DayOfWeek.MONDAY, LocalTime.NOON));
+    }
+
+    @Test
+    public void isOpenAt_closesAfterMidnight() {
+        OperatingHours operatingHours = new OperatingHours("1800-0200, 0900-0900");
+
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(23, 0)));
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.TUESDAY, LocalTime.of(1, 0)));
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.TUESDAY, LocalTime.of(2, 0)));
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(12, 0)));
+
+        // Friday night continues into Saturday; the weekend is open all day
+        assertTrue(operatingHours.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(3, 0)));
+        // Sunday is open all day, so nothing carries over into Monday morning
+        assertFalse(operatingHours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(1, 0)));
+    }
+
+    @Test
+    public void toString_test() {
+        assertEquals("-", OperatingHours.emptyOperatingHours().toString());
+        assertEquals("Weekdays: 0900-2200, Weekends: 1000-1800",
+                new OperatingHours("0900 - 2200,1000-1800").toString());
+    }
+
+    @Test
+    public void packedMinutes_roundTrip() {
+        // canonical value -> same operating hours
+        OperatingHours operatingHours = new OperatingHours("0900-2200, 1000-1800");
+        assertEquals(operatingHours, OperatingHours.fromPackedMinutes(operatingHours.toPackedMinutes()));
+
+        // differently formatted value -> canonical value
+        assertEquals(operatingHours, OperatingHours.fromPackedMinutes(
+                new OperatingHours("0900 - 2200,1000-1800").toPackedMinutes()));
+
+        // no operating hours
+        assertEquals(OperatingHours.NO_PACKED_MINUTES, OperatingHours.emptyOperatingHours().toPackedMinutes());
+        assertEquals(OperatingHours.emptyOperatingHours(),
+                OperatingHours.fromPackedMinutes(OperatingHours.NO_PACKED_MINUTES));
+
+        // invalid packed minutes
+        assertFalse(OperatingHours.isValidPackedMinutes(24 * 60));
+        assertThrows(IllegalArgumentException.class, () -> OperatingHours.fromPackedMinutes(-2));
+    }
+
     @Test
     public void hashCode_test() {
         OperatingHours operatingHours = new OperatingHours("0900-0900, 0900-2200");
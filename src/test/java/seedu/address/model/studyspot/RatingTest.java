@@ -3,6 +3,7 @@ package seedu.address.model.studyspot;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -58,4 +59,11 @@ public class RatingTest {
         assertEquals(new Rating("2").hashCode(), rating.hashCode());
         assertNotEquals(new Rating("5").hashCode(), rating.hashCode());
     }
+
+    @Test
+    public void of_sameRating_returnsSharedRating() {
+        assertSame(Rating.of("3"), Rating.of("3"));
+        assertEquals(new Rating("3"), Rating.of("3"));
+        assertThrows(IllegalArgumentException.class, () -> Rating.of("6"));
+    }
 }
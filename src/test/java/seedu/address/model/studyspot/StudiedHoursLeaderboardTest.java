@@ -0,0 +1,83 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
+import static seedu.address.testutil.TypicalStudySpots.DECK;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudiedHoursLeaderboardTest {
+
+    private static final StudySpot STARBUCKS_TEN_HOURS = new StudySpotBuilder(STARBUCKS)
+            .withStudiedHours("10").build();
+    private static final StudySpot COM1_FIVE_HOURS = new StudySpotBuilder(COM1).withStudiedHours("5").build();
+    private static final StudySpot DECK_TWENTY_HOURS = new StudySpotBuilder(DECK).withStudiedHours("20").build();
+
+    private final StudiedHoursLeaderboard leaderboard = new StudiedHoursLeaderboard(2);
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StudiedHoursLeaderboard(0));
+    }
+
+    @Test
+    public void add_moreStudySpotsThanSize_keepsMostStudied() {
+        leaderboard.add(COM1_FIVE_HOURS);
+        leaderboard.add(STARBUCKS_TEN_HOURS);
+        leaderboard.add(CENTRAL_LIBRARY);
+
+        assertEquals(Arrays.asList(STARBUCKS_TEN_HOURS, COM1_FIVE_HOURS), leaderboard.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_equalStudiedHours_ranksEarlierStudySpotFirst() {
+        leaderboard.add(CENTRAL_LIBRARY);
+        leaderboard.add(COM1);
+        leaderboard.add(STARBUCKS);
+
+        assertEquals(Arrays.asList(CENTRAL_LIBRARY, COM1), leaderboard.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_studiedHoursIncreased_movesStudySpotUp() {
+        leaderboard.reset(Arrays.asList(STARBUCKS_TEN_HOURS, COM1_FIVE_HOURS, DECK));
+        leaderboard.replace(DECK, DECK_TWENTY_HOURS);
+
+        assertEquals(Arrays.asList(DECK_TWENTY_HOURS, STARBUCKS_TEN_HOURS), leaderboard.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_sameStudiedHours_replacesStudySpotInPlace() {
+        leaderboard.reset(Arrays.asList(CENTRAL_LIBRARY, COM1, STARBUCKS));
+        StudySpot unfavouritedCentralLibrary = new StudySpotBuilder(CENTRAL_LIBRARY).withFavourite(false).build();
+        leaderboard.replace(CENTRAL_LIBRARY, unfavouritedCentralLibrary);
+
+        assertEquals(Arrays.asList(unfavouritedCentralLibrary, COM1), leaderboard.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_topStudySpot_promotesNextMostStudied() {
+        leaderboard.reset(Arrays.asList(STARBUCKS_TEN_HOURS, COM1_FIVE_HOURS, DECK_TWENTY_HOURS));
+        leaderboard.remove(DECK_TWENTY_HOURS);
+
+        assertEquals(Arrays.asList(STARBUCKS_TEN_HOURS, COM1_FIVE_HOURS), leaderboard.asUnmodifiableObservableList());
+
+        leaderboard.remove(STARBUCKS_TEN_HOURS);
+        leaderboard.remove(COM1_FIVE_HOURS);
+        assertEquals(Collections.emptyList(), leaderboard.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        leaderboard.add(STARBUCKS);
+        assertThrows(UnsupportedOperationException.class, () -> leaderboard.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.TOKYO_ROOM;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudiedHoursStatisticsTest {
+
+    private static final Tag COLD = new Tag("cold");
+    private static final Amenity WIFI = new Amenity("wifi");
+
+    private final StudiedHoursStatistics statistics = new StudiedHoursStatistics();
+
+    @Test
+    public void add_studySpots_updatesTotalAndSubtotals() {
+        statistics.add(CENTRAL_LIBRARY);
+        statistics.add(TOKYO_ROOM);
+
+        assertEquals(10, statistics.totalStudiedHoursProperty().get());
+        assertEquals(Long.valueOf(10), statistics.getStudiedHoursByTag().get(COLD));
+        assertEquals(Long.valueOf(5), statistics.getStudiedHoursByTag().get(new Tag("quiet")));
+        assertEquals(Long.valueOf(10), statistics.getStudiedHoursByAmenity().get(WIFI));
+    }
+
+    @Test
+    public void replace_studiedHoursChanged_adjustsTotals() {
+        statistics.reset(Arrays.asList(CENTRAL_LIBRARY, TOKYO_ROOM));
+        StudySpot loggedTokyoRoom = new StudySpotBuilder(TOKYO_ROOM).withStudiedHours("12").withTags().build();
+        statistics.replace(TOKYO_ROOM, loggedTokyoRoom);
+
+        assertEquals(17, statistics.totalStudiedHoursProperty().get());
+        assertEquals(Long.valueOf(5), statistics.getStudiedHoursByTag().get(COLD));
+        assertEquals(Long.valueOf(17), statistics.getStudiedHoursByAmenity().get(WIFI));
+    }
+
+    @Test
+    public void remove_lastStudySpotWithTag_dropsSubtotal() {
+        statistics.reset(Arrays.asList(CENTRAL_LIBRARY, STARBUCKS));
+        statistics.remove(CENTRAL_LIBRARY);
+
+        assertEquals(5, statistics.totalStudiedHoursProperty().get());
+        assertFalse(statistics.getStudiedHoursByTag().containsKey(COLD));
+        assertEquals(Long.valueOf(5), statistics.getStudiedHoursByAmenity().get(WIFI));
+    }
+
+    @Test
+    public void getStudiedHoursByTag_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getStudiedHoursByTag().put(COLD, 1L));
+    }
+}
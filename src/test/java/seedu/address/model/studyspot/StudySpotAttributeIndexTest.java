@@ -0,0 +1,72 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.TOKYO_ROOM;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudySpotAttributeIndexTest {
+
+    private static final Set<Tag> COLD = Collections.singleton(new Tag("cold"));
+
+    private final StudySpotAttributeIndex index = new StudySpotAttributeIndex();
+
+    @Test
+    public void hasAttributes_singleAttribute_trueForStudySpotsWithAttribute() {
+        index.reset(Arrays.asList(STARBUCKS, CENTRAL_LIBRARY, TOKYO_ROOM));
+
+        assertTrue(index.hasAttributes(CENTRAL_LIBRARY.getName(), COLD, null));
+        assertTrue(index.hasAttributes(TOKYO_ROOM.getName(), COLD, null));
+        assertFalse(index.hasAttributes(STARBUCKS.getName(), COLD, null));
+        assertTrue(index.hasAttributes(STARBUCKS.getName(), null, STARBUCKS.getRating()));
+        assertFalse(index.hasAttributes(CENTRAL_LIBRARY.getName(), null, STARBUCKS.getRating()));
+    }
+
+    @Test
+    public void hasAttributes_severalAttributes_trueOnlyIfAllPresent() {
+        index.reset(Arrays.asList(STARBUCKS, CENTRAL_LIBRARY, TOKYO_ROOM));
+        Set<Tag> coldAndQuiet = new HashSet<>(Arrays.asList(new Tag("cold"), new Tag("quiet")));
+
+        assertTrue(index.hasAttributes(CENTRAL_LIBRARY.getName(), coldAndQuiet, CENTRAL_LIBRARY.getRating()));
+        assertFalse(index.hasAttributes(TOKYO_ROOM.getName(), coldAndQuiet, null));
+        assertFalse(index.hasAttributes(CENTRAL_LIBRARY.getName(), coldAndQuiet, STARBUCKS.getRating()));
+    }
+
+    @Test
+    public void hasAttributes_nameInDifferentCase_matchesStudySpot() {
+        index.add(TOKYO_ROOM);
+
+        assertTrue(index.hasAttributes(new Name(TOKYO_ROOM.getName().fullName.toUpperCase()), COLD, null));
+    }
+
+    @Test
+    public void replace_attributesChanged_answersFromNewAttributes() {
+        index.add(TOKYO_ROOM);
+        StudySpot warmTokyoRoom = new StudySpotBuilder(TOKYO_ROOM).withTags("warm").build();
+        index.replace(TOKYO_ROOM, warmTokyoRoom);
+
+        assertFalse(index.hasAttributes(TOKYO_ROOM.getName(), COLD, null));
+        assertTrue(index.hasAttributes(TOKYO_ROOM.getName(), Collections.singleton(new Tag("warm")), null));
+    }
+
+    @Test
+    public void remove_studySpot_noLongerMatches() {
+        index.add(CENTRAL_LIBRARY);
+        index.add(TOKYO_ROOM);
+        index.remove(CENTRAL_LIBRARY);
+
+        assertFalse(index.hasAttributes(CENTRAL_LIBRARY.getName(), COLD, null));
+        assertTrue(index.hasAttributes(TOKYO_ROOM.getName(), COLD, null));
+    }
+}
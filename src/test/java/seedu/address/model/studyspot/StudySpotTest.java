@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.amenity.Amenity;
 import seedu.address.testutil.StudySpotBuilder;
 
 public class StudySpotTest {
@@ -100,6 +101,19 @@ public class StudySpotTest {
         assertFalse(STARBUCKS.equals(editedStarbucks));
     }
 
+    @Test
+    public void hasAmenities() {
+        StudySpot studySpot = new StudySpotBuilder().withAmenities("wifi", "charger").build();
+        int wifi = new Amenity("wifi").getMask();
+        int charger = new Amenity("charger").getMask();
+        int food = new Amenity("food").getMask();
+
+        assertTrue(studySpot.hasAmenities(0));
+        assertTrue(studySpot.hasAmenities(wifi | charger));
+        assertFalse(studySpot.hasAmenities(wifi | food));
+        assertEquals(Amenity.fromMask(wifi | charger), studySpot.getAmenities());
+    }
+
     @Test
     public void hashCode_test() {
         StudySpot starbucks = new StudySpotBuilder(STARBUCKS).build();
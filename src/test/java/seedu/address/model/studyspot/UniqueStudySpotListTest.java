@@ -3,10 +3,13 @@ package seedu.address.model.studyspot;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_QUIET;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
 import static seedu.address.testutil.TypicalStudySpots.DECK;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
@@ -14,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
@@ -48,6 +52,22 @@ public class UniqueStudySpotListTest {
         assertTrue(uniqueStudySpotList.contains(editedStarbucks));
     }
 
+    @Test
+    public void get_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudySpotList.get(null));
+    }
+
+    @Test
+    public void get_nameNotInList_returnsNull() {
+        assertNull(uniqueStudySpotList.get(STARBUCKS.getName()));
+    }
+
+    @Test
+    public void get_nameInListWithDifferentCase_returnsStudySpot() {
+        uniqueStudySpotList.add(STARBUCKS);
+        assertEquals(STARBUCKS, uniqueStudySpotList.get(new Name("sTaRbUcKs")));
+    }
+
     @Test
     public void add_nullStudySpot_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudySpotList.add(null));
@@ -128,6 +148,28 @@ public class UniqueStudySpotListTest {
         assertEquals(expectedUniqueStudySpotList, uniqueStudySpotList);
     }
 
+    @Test
+    public void remove_studySpotBeforeOthers_keepsRemainingStudySpotsReachable() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.add(CENTRAL_LIBRARY);
+        uniqueStudySpotList.add(COM1);
+        uniqueStudySpotList.remove(STARBUCKS);
+
+        assertFalse(uniqueStudySpotList.contains(STARBUCKS));
+        assertEquals(CENTRAL_LIBRARY, uniqueStudySpotList.get(CENTRAL_LIBRARY.getName()));
+        assertEquals(COM1, uniqueStudySpotList.get(COM1.getName()));
+
+        uniqueStudySpotList.setStudySpot(COM1, DECK);
+        assertEquals(Arrays.asList(CENTRAL_LIBRARY, DECK), uniqueStudySpotList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_equivalentButNotEqualStudySpot_throwsStudySpotNotFoundException() {
+        uniqueStudySpotList.add(STARBUCKS);
+        StudySpot editedStarbucks = new StudySpotBuilder(STARBUCKS).withAddress(VALID_ADDRESS_DECK).build();
+        assertThrows(StudySpotNotFoundException.class, () -> uniqueStudySpotList.remove(editedStarbucks));
+    }
+
     @Test
     public void setStudySpots_nullUniqueStudySpotList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudySpotList.setStudySpots((UniqueStudySpotList) null));
@@ -164,6 +206,18 @@ public class UniqueStudySpotListTest {
                 uniqueStudySpotList.setStudySpots(listWithDuplicateStudySpots));
     }
 
+    @Test
+    public void setStudySpots_listWithSeveralDuplicates_reportsEveryDuplicateAndKeepsOwnList() {
+        uniqueStudySpotList.add(COM1);
+        StudySpot editedStarbucks = new StudySpotBuilder(STARBUCKS).withName("STARBUCKS").build();
+        List<StudySpot> listWithDuplicateStudySpots = Arrays.asList(STARBUCKS, DECK, editedStarbucks, DECK);
+
+        DuplicateStudySpotException thrown = Assertions.assertThrows(DuplicateStudySpotException.class, () ->
+                uniqueStudySpotList.setStudySpots(listWithDuplicateStudySpots));
+        assertEquals(Arrays.asList(editedStarbucks, DECK), thrown.getDuplicates());
+        assertEquals(Collections.singletonList(COM1), uniqueStudySpotList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
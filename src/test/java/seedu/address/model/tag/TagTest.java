@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -56,4 +58,12 @@ public class TagTest {
         assertFalse(warm.equals(cold));
     }
 
+    @Test
+    public void of_sameTagName_returnsSharedTag() {
+        Tag quiet = Tag.of("quiet");
+        assertSame(quiet, Tag.of("quiet"));
+        assertEquals(new Tag("quiet"), quiet);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
 }
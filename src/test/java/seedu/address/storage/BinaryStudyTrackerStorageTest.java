@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class BinaryStudyTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryStudyTrackerStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("studytracker.bin");
+        storage = new BinaryStudyTrackerStorage(filePath);
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryStudyTrackerStorage(null));
+    }
+
+    @Test
+    public void readStudyTracker_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readStudyTracker().isPresent());
+    }
+
+    @Test
+    public void readAndSaveStudyTracker_allInOrder_success() throws Exception {
+        StudyTracker original = getTypicalStudyTracker();
+        storage.saveStudyTracker(original);
+        assertSameData(original, storage.readStudyTracker().get());
+
+        // modify data, overwrite existing file and read back
+        original.addStudySpot(BIZ_PODS);
+        original.removeStudySpot(STARBUCKS);
+        storage.saveStudyTracker(original);
+        assertSameData(original, storage.readStudyTracker().get());
+        assertEquals(getTypicalStudyTracker(), new StudyTracker(
+                storage.readStudyTracker(FileUtil.getBackupPath(filePath)).get()));
+    }
+
+    @Test
+    public void readAndSaveStudyTracker_unpackableOperatingHours_valueKept() throws Exception {
+        StudyTracker original = new StudyTracker();
+        original.addStudySpot(new StudySpotBuilder(STARBUCKS).withOperatingHours("0900 - 2200,1000-1800").build());
+        storage.saveStudyTracker(original);
+
+        assertSameData(original, storage.readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_notBinaryFile_throwsDataConversionException() throws Exception {
+        new JsonStudyTrackerStorage(filePath).saveStudyTracker(getTypicalStudyTracker());
+        assertThrows(DataConversionException.class, () -> storage.readStudyTracker());
+    }
+
+    @Test
+    public void readStudyTracker_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveStudyTracker(getTypicalStudyTracker());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> storage.readStudyTracker());
+    }
+
+    @Test
+    public void readStudyTracker_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveStudyTracker(getTypicalStudyTracker());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[5]++; // last byte of the format version
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readStudyTracker());
+    }
+
+    @Test
+    public void readStudyTracker_sameAddress_addressShared() throws Exception {
+        StudyTracker original = new StudyTracker();
+        original.addStudySpot(new StudySpotBuilder(STARBUCKS).withAddress("NUS").build());
+        original.addStudySpot(new StudySpotBuilder(BIZ_PODS).withAddress("NUS").build());
+        storage.saveStudyTracker(original);
+
+        List<StudySpot> readBack = storage.readStudyTracker().get().getStudySpotList();
+        assertSame(readBack.get(0).getAddress(), readBack.get(1).getAddress());
+    }
+
+    @Test
+    public void readStudyTracker_corruptedStringCount_throwsDataConversionException() throws Exception {
+        storage.saveStudyTracker(getTypicalStudyTracker());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[6] = 0x7F; // first byte of the string count
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readStudyTracker());
+    }
+
+    @Test
+    public void saveStudyTracker_typicalStudyTracker_smallerThanJson() throws Exception {
+        storage.saveStudyTracker(getTypicalStudyTracker());
+        Path jsonFilePath = testFolder.resolve("studytracker.json");
+        new JsonStudyTrackerStorage(jsonFilePath, true).saveStudyTracker(getTypicalStudyTracker());
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveStudyTracker_nullStudyTracker_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveStudyTracker(null));
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} hold the same study spots, including their studied hours
+     * and the exact value of their operating hours.
+     */
+    private static void assertSameData(ReadOnlyStudyTracker expected, ReadOnlyStudyTracker actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableStudyTracker(expected)),
+                JsonUtil.toJsonString(new JsonSerializableStudyTracker(actual)));
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.COMPUTING_LOUNGE;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.TOKYO_ROOM;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class JournaledStudyTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("studytracker.json");
+        journalPath = JournaledStudyTrackerStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledStudyTrackerStorage(filePath, 0));
+    }
+
+    @Test
+    public void readStudyTracker_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledStudyTrackerStorage(filePath).readStudyTracker().isPresent());
+    }
+
+    @Test
+    public void saveStudyTracker_firstSave_writesSnapshotOnly() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker original = getTypicalStudyTracker();
+        storage.saveStudyTracker(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertSameData(original, new JsonStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void saveStudyTracker_changesAfterSnapshot_appendsToJournalAndReplays() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        String snapshot = Files.readString(filePath);
+
+        // add, log, favourite, edit with a new name and delete
+        studyTracker.addStudySpot(BIZ_PODS);
+        studyTracker.setStudySpot(STARBUCKS, new StudySpotBuilder(STARBUCKS).withStudiedHours("42").build());
+        studyTracker.addStudySpotToFavourites(TOKYO_ROOM);
+        studyTracker.setStudySpot(CENTRAL_LIBRARY,
+                new StudySpotBuilder(CENTRAL_LIBRARY).withName("Science library").withRating("5").build());
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.removeStudySpot(BIZ_PODS);
+        storage.saveStudyTracker(studyTracker);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(6, Files.readAllLines(journalPath).size());
+        assertSameData(studyTracker, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void saveStudyTracker_compactSnapshot_replaysJournal() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath,
+                JournaledStudyTrackerStorage.DEFAULT_COMPACTION_THRESHOLD, true);
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.addStudySpot(BIZ_PODS);
+        storage.saveStudyTracker(studyTracker);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertTrue(Files.exists(journalPath));
+        assertSameData(studyTracker, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void saveStudyTracker_journalReachesThreshold_compactsIntoSnapshot() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath, 2);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+
+        studyTracker.addStudySpot(STARBUCKS);
+        studyTracker.addStudySpot(BIZ_PODS);
+        storage.saveStudyTracker(studyTracker);
+        assertTrue(Files.exists(journalPath));
+
+        studyTracker.addStudySpot(COMPUTING_LOUNGE);
+        storage.saveStudyTracker(studyTracker);
+        assertFalse(Files.exists(journalPath));
+        assertSameData(studyTracker, new JsonStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void saveStudyTracker_reorderedStudySpots_compactsIntoSnapshot() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        studyTracker.setStudySpots(Arrays.asList(STARBUCKS, BIZ_PODS));
+        storage.saveStudyTracker(studyTracker);
+
+        studyTracker.setStudySpots(Arrays.asList(BIZ_PODS, STARBUCKS));
+        storage.saveStudyTracker(studyTracker);
+
+        assertFalse(Files.exists(journalPath));
+        assertSameData(studyTracker, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_compactionInterruptedAfterSnapshot_ignoresJournal() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the new snapshot has the same content as the one the journal started from
+        studyTracker.removeStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker, filePath);
+        Files.write(journalPath, journal);
+        Files.write(journalPath, createMarkerLine(filePath), StandardOpenOption.APPEND);
+
+        assertSameData(studyTracker, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_compactionInterruptedBeforeSnapshot_replaysJournal() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        studyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker);
+        StudyTracker lastSaved = new StudyTracker(studyTracker);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        studyTracker.addStudySpot(BIZ_PODS);
+        storage.saveStudyTracker(studyTracker, filePath);
+        Files.write(journalPath, journal);
+        Files.write(journalPath, createMarkerLine(filePath), StandardOpenOption.APPEND);
+        Files.write(filePath, snapshot);
+
+        assertSameData(lastSaved, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_incompleteLastLine_ignoresLineAndOverwritesIt() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker);
+        Files.write(journalPath, "{\"operation\":\"add\",\"stu".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledStudyTrackerStorage reopenedStorage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker readBack = new StudyTracker(reopenedStorage.readStudyTracker().get());
+        assertSameData(studyTracker, readBack);
+
+        readBack.addStudySpot(BIZ_PODS);
+        reopenedStorage.saveStudyTracker(readBack);
+        assertSameData(readBack, new JournaledStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_invalidJournalEntry_throwsDataConversionException() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker);
+        Files.write(journalPath, "{\"operation\":\"log\",\"name\":\"Starbucks\",\"studiedHours\":\"-1\"}\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> new JournaledStudyTrackerStorage(filePath)
+                .readStudyTracker());
+    }
+
+    @Test
+    public void readStudyTrackerSnapshot_invalidJournalEntry_journalIgnored() throws Exception {
+        JournaledStudyTrackerStorage storage = new JournaledStudyTrackerStorage(filePath);
+        StudyTracker studyTracker = new StudyTracker();
+        storage.saveStudyTracker(studyTracker);
+        studyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(studyTracker);
+        Files.write(journalPath, "{\"operation\":\"log\",\"name\":\"Starbucks\",\"studiedHours\":\"-1\"}\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertSameData(new StudyTracker(), new JournaledStudyTrackerStorage(filePath)
+                .readStudyTrackerSnapshot(filePath).get());
+    }
+
+    @Test
+    public void createEntries_logAndFavourite_createsSmallEntries() throws Exception {
+        StudySpot logged = new StudySpotBuilder(STARBUCKS).withStudiedHours("42").build();
+        StudySpot favourite = new StudySpotBuilder(STARBUCKS).withFavourite(true).build();
+
+        assertEquals(Collections.emptyList(), JournaledStudyTrackerStorage.createEntries(
+                Collections.singletonList(STARBUCKS), Collections.singletonList(STARBUCKS)).get());
+        assertEquals("{\"operation\":\"log\",\"name\":\"Starbucks\",\"studiedHours\":\"42\"}",
+                JsonUtil.toCompactJsonString(JournaledStudyTrackerStorage.createEntries(
+                        Collections.singletonList(STARBUCKS), Collections.singletonList(logged)).get().get(0)));
+        assertEquals("{\"operation\":\"favourite\",\"name\":\"Starbucks\",\"favourite\":\"true\"}",
+                JsonUtil.toCompactJsonString(JournaledStudyTrackerStorage.createEntries(
+                        Collections.singletonList(STARBUCKS), Collections.singletonList(favourite)).get().get(0)));
+    }
+
+    /**
+     * Returns the journal line marking the snapshot at {@code snapshotPath}.
+     */
+    private static byte[] createMarkerLine(Path snapshotPath) throws Exception {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(snapshotPath));
+        String marker = JsonUtil.toCompactJsonString(
+                JsonAdaptedJournalEntry.snapshot(Long.toHexString(crc.getValue())));
+        return (marker + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} hold the same study spots, including their studied hours.
+     */
+    private static void assertSameData(ReadOnlyStudyTracker expected, ReadOnlyStudyTracker actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableStudyTracker(expected)),
+                JsonUtil.toJsonString(new JsonSerializableStudyTracker(actual)));
+    }
+}
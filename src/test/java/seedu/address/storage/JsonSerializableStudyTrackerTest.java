@@ -5,12 +5,20 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.StudySpotBuilder;
 import seedu.address.testutil.TypicalStudySpots;
 
 public class JsonSerializableStudyTrackerTest {
@@ -41,8 +49,63 @@ public class JsonSerializableStudyTrackerTest {
     public void toModelType_duplicateStudySpots_throwsIllegalValueException() throws Exception {
         JsonSerializableStudyTracker dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDYSPOT_FILE,
                 JsonSerializableStudyTracker.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableStudyTracker.MESSAGE_DUPLICATE_STUDYSPOT,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableStudyTracker.MESSAGE_DUPLICATE_STUDYSPOT_NAMES, "COM2 Tech Hangout"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleInvalidStudySpots_reportsEveryInvalidStudySpot() {
+        JsonSerializableStudyTracker data = new JsonSerializableStudyTracker(Arrays.asList(
+                new JsonAdaptedStudySpot(TypicalStudySpots.STARBUCKS),
+                createInvalidStudySpot("R@chel", "3"),
+                new JsonAdaptedStudySpot(TypicalStudySpots.COM1),
+                createInvalidStudySpot("Library", "+651234")));
+        String expectedMessage = String.format(JsonSerializableStudyTracker.MESSAGE_INVALID_STUDYSPOTS, 2,
+                String.format(JsonSerializableStudyTracker.MESSAGE_INVALID_STUDYSPOT, 2, Name.MESSAGE_CONSTRAINTS)
+                + String.format(JsonSerializableStudyTracker.MESSAGE_INVALID_STUDYSPOT, 4,
+                        Rating.MESSAGE_CONSTRAINTS));
+
+        assertThrows(IllegalValueException.class, expectedMessage, () -> data.toModelType(false));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> data.toModelType(true));
+    }
+
+    @Test
+    public void toModelType_parallel_sameAsSequential() throws Exception {
+        List<JsonAdaptedStudySpot> studySpots = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableStudyTracker.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            studySpots.add(new JsonAdaptedStudySpot(new StudySpotBuilder().withName("Study Spot " + i).build()));
+        }
+        JsonSerializableStudyTracker data = new JsonSerializableStudyTracker(studySpots);
+
+        StudyTracker sequential = data.toModelType(false);
+        assertEquals(sequential, data.toModelType(true));
+        assertEquals(sequential, data.toModelType());
+    }
+
+    @Test
+    public void toModelType_parallelDuplicateStudySpots_throwsIllegalValueException() {
+        List<JsonAdaptedStudySpot> studySpots = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableStudyTracker.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            studySpots.add(new JsonAdaptedStudySpot(new StudySpotBuilder().withName("Study Spot " + i).build()));
+        }
+        studySpots.add(new JsonAdaptedStudySpot(new StudySpotBuilder().withName("Study Spot 7").build()));
+        JsonSerializableStudyTracker data = new JsonSerializableStudyTracker(studySpots);
+
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableStudyTracker.MESSAGE_DUPLICATE_STUDYSPOT_NAMES, "Study Spot 7"),
+                data::toModelType);
+    }
+
+    /**
+     * Returns a study spot like {@code STARBUCKS} with the given {@code name} and {@code rating}.
+     */
+    private static JsonAdaptedStudySpot createInvalidStudySpot(String name, String rating) {
+        StudySpot valid = TypicalStudySpots.STARBUCKS;
+        return new JsonAdaptedStudySpot(name, rating, valid.getOperatingHours().value, valid.getAddress().value,
+                valid.getFavourite().value, valid.getStudiedHours().value,
+                valid.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                valid.getAmenities().stream().map(JsonAdaptedAmenity::new).collect(Collectors.toList()));
+    }
+
 }
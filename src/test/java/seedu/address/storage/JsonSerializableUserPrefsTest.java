@@ -11,10 +11,12 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.studyspot.StudiedHoursLeaderboard;
 
 class JsonSerializableUserPrefsTest {
 
@@ -29,6 +31,27 @@ class JsonSerializableUserPrefsTest {
         assertEquals(userPrefsDefault, serializedUserPrefs.toModelType());
     }
 
+    @Test
+    public void constructor_binaryFileFormatSource_fileFormatKept() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudyTrackerFileFormat(DataFileFormat.BINARY);
+        assertEquals(DataFileFormat.BINARY,
+                new JsonSerializableUserPrefs(userPrefs).toModelType().getStudyTrackerFileFormat());
+    }
+
+    @Test
+    public void constructor_leaderboardSizeSource_leaderboardSizeKept() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setLeaderboardSize(10);
+        assertEquals(10, new JsonSerializableUserPrefs(userPrefs).toModelType().getLeaderboardSize());
+    }
+
+    @Test
+    public void toModelType_nonPositiveLeaderboardSize_throwsIllegalValueException() {
+        JsonSerializableUserPrefs userPrefs = new JsonSerializableUserPrefs(null, null, null, 0, null);
+        assertThrows(IllegalValueException.class, StudiedHoursLeaderboard.MESSAGE_CONSTRAINTS, userPrefs::toModelType);
+    }
+
     @Test
     public void constructor_duplicateAliasesInUserPrefsSource_throwsIllegalValueException() throws Exception {
         List<Alias> duplicateAliases = Arrays.asList(
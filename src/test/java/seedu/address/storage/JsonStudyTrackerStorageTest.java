@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.StudyTracker;
 
@@ -87,6 +89,35 @@ public class JsonStudyTrackerStorageTest {
 
     }
 
+    @Test
+    public void saveStudyTracker_existingFile_keepsPreviousDataAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.json");
+        JsonStudyTrackerStorage jsonStudyTrackerStorage = new JsonStudyTrackerStorage(filePath);
+        StudyTracker original = getTypicalStudyTracker();
+        jsonStudyTrackerStorage.saveStudyTracker(original);
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath)));
+
+        StudyTracker modified = new StudyTracker(original);
+        modified.addStudySpot(BIZ_PODS);
+        jsonStudyTrackerStorage.saveStudyTracker(modified);
+
+        assertEquals(modified, new StudyTracker(jsonStudyTrackerStorage.readStudyTracker().get()));
+        assertEquals(original, new StudyTracker(
+                jsonStudyTrackerStorage.readStudyTracker(FileUtil.getBackupPath(filePath)).get()));
+    }
+
+    @Test
+    public void readAndSaveStudyTracker_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.json");
+        StudyTracker original = getTypicalStudyTracker();
+        JsonStudyTrackerStorage jsonStudyTrackerStorage = new JsonStudyTrackerStorage(filePath, true);
+
+        jsonStudyTrackerStorage.saveStudyTracker(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new StudyTracker(jsonStudyTrackerStorage.readStudyTracker().get()));
+    }
+
     @Test
     public void saveStudyTracker_nullStudyTracker_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveStudyTracker(null, "SomeFile.json"));
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -104,6 +107,22 @@ public class JsonUserPrefsStorageTest {
         }
     }
 
+    @Test
+    public void saveUserPrefs_unchangedUserPrefs_doesNotRewriteFile() throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+        jsonUserPrefsStorage.saveUserPrefs(userPrefs);
+        Files.setLastModifiedTime(prefsFilePath, FileTime.fromMillis(0));
+
+        jsonUserPrefsStorage.saveUserPrefs(new UserPrefs());
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(prefsFilePath));
+
+        userPrefs.setGuiSettings(new GuiSettings(5, 5, 5, 5, "default"));
+        jsonUserPrefsStorage.saveUserPrefs(userPrefs);
+        assertNotEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(prefsFilePath));
+    }
+
     @Test
     public void saveUserPrefs_allInOrder_success() throws DataConversionException, IOException {
 
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.StudyTracker;
+
+public class StudyTrackerFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_correctStorage() {
+        Path filePath = testFolder.resolve("studytracker");
+        assertTrue(StudyTrackerFormatConverter.createStorage(DataFileFormat.JSON, filePath)
+                instanceof JournaledStudyTrackerStorage);
+        assertTrue(StudyTrackerFormatConverter.createStorage(DataFileFormat.PLAIN_JSON, filePath)
+                instanceof JsonStudyTrackerStorage);
+        assertTrue(StudyTrackerFormatConverter.createStorage(DataFileFormat.BINARY, filePath)
+                instanceof BinaryStudyTrackerStorage);
+        assertThrows(NullPointerException.class, () -> StudyTrackerFormatConverter.createStorage(null, filePath));
+    }
+
+    @Test
+    public void convert_jsonWithJournalToBinaryAndBack_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("studytracker.json");
+        JournaledStudyTrackerStorage jsonStorage = new JournaledStudyTrackerStorage(jsonFilePath);
+        StudyTracker original = getTypicalStudyTracker();
+        jsonStorage.saveStudyTracker(original);
+        original.addStudySpot(BIZ_PODS);
+        jsonStorage.saveStudyTracker(original);
+
+        BinaryStudyTrackerStorage binaryStorage = new BinaryStudyTrackerStorage(testFolder.resolve("studytracker.bin"));
+        assertTrue(StudyTrackerFormatConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, new StudyTracker(binaryStorage.readStudyTracker().get()));
+
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        assertTrue(StudyTrackerFormatConverter.convert(binaryStorage, new JournaledStudyTrackerStorage(
+                convertedFilePath)));
+        assertFalse(Files.exists(JournaledStudyTrackerStorage.getJournalFilePath(convertedFilePath)));
+        assertEquals(original, new StudyTracker(new JsonStudyTrackerStorage(convertedFilePath)
+                .readStudyTracker().get()));
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        Path targetFilePath = testFolder.resolve("studytracker.bin");
+        assertFalse(StudyTrackerFormatConverter.convert(
+                new JournaledStudyTrackerStorage(testFolder.resolve("missing.json")),
+                new BinaryStudyTrackerStorage(targetFilePath)));
+        assertFalse(Files.exists(targetFilePath));
+    }
+}
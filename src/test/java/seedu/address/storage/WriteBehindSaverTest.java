@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.FRONTIER;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.Alias;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null));
+    }
+
+    @Test
+    public void requestSave_dataChangedAfterRequest_savesDataAtRequest() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+        StudyTracker studyTracker = new StudyTracker();
+        UserPrefs userPrefs = new UserPrefs();
+
+        CountDownLatch latch = blockExecutor();
+        saver.requestStudyTrackerSave(studyTracker);
+        saver.requestUserPrefsSave(userPrefs);
+        studyTracker.addStudySpot(FRONTIER);
+        userPrefs.getUserAliases().add(new Alias("favs", "list"));
+        latch.countDown();
+        saver.flush();
+
+        assertEquals(Collections.singletonList(new StudyTracker()), storage.savedStudyTrackers);
+        assertEquals(Collections.singletonList(new UserPrefs()), storage.savedUserPrefs);
+    }
+
+    @Test
+    public void requestStudyTrackerSave_requestsWhileSavePending_savesLatestDataOnce() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+        StudyTracker studyTracker = new StudyTracker();
+
+        CountDownLatch latch = blockExecutor();
+        saver.requestStudyTrackerSave(studyTracker);
+        studyTracker.addStudySpot(FRONTIER);
+        saver.requestStudyTrackerSave(studyTracker);
+        latch.countDown();
+        saver.flush();
+
+        StudyTracker expectedStudyTracker = new StudyTracker();
+        expectedStudyTracker.addStudySpot(FRONTIER);
+        assertEquals(Collections.singletonList(expectedStudyTracker), storage.savedStudyTrackers);
+    }
+
+    @Test
+    public void requestUserPrefsSave_onlyUserPrefsRequested_savesOnlyUserPrefs() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+
+        saver.requestUserPrefsSave(new UserPrefs());
+        saver.flush();
+
+        assertEquals(Collections.emptyList(), storage.savedStudyTrackers);
+        assertEquals(Collections.singletonList(new UserPrefs()), storage.savedUserPrefs);
+    }
+
+    @Test
+    public void requestStudyTrackerSave_storageThrowsIoException_reportsFailure() {
+        IOException exception = new IOException("dummy exception");
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder) {
+            @Override
+            public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+                throw exception;
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.requestStudyTrackerSave(new StudyTracker());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void requestSave_studyTrackerSaveFails_userPrefsStillSaved() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder) {
+            @Override
+            public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+
+        CountDownLatch latch = blockExecutor();
+        saver.requestStudyTrackerSave(new StudyTracker());
+        saver.requestUserPrefsSave(new UserPrefs());
+        latch.countDown();
+        saver.flush();
+
+        assertEquals(Collections.singletonList(new UserPrefs()), storage.savedUserPrefs);
+    }
+
+    @Test
+    public void requestUserPrefsSave_studyTrackerSaveFailedBefore_failedStudyTrackerSavedAgain() {
+        StudyTracker expectedStudyTracker = new StudyTracker();
+        expectedStudyTracker.addStudySpot(FRONTIER);
+        boolean[] isStorageFailing = {true};
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder) {
+            @Override
+            public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+                if (isStorageFailing[0]) {
+                    throw new IOException("dummy exception");
+                }
+                super.saveStudyTracker(studyTracker);
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, executor);
+
+        saver.requestStudyTrackerSave(expectedStudyTracker);
+        saver.flush();
+        assertEquals(Collections.emptyList(), storage.savedStudyTrackers);
+
+        isStorageFailing[0] = false;
+        saver.requestUserPrefsSave(new UserPrefs());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(expectedStudyTracker), storage.savedStudyTrackers);
+        assertEquals(Collections.singletonList(new UserPrefs()), storage.savedUserPrefs);
+    }
+
+    /**
+     * Keeps the executor busy until the returned latch is counted down.
+     */
+    private CountDownLatch blockExecutor() {
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return latch;
+    }
+
+    /**
+     * A {@code StorageManager} that records copies of the data it is asked to save instead of writing files.
+     */
+    private static class RecordingStorageStub extends StorageManager {
+        private final List<StudyTracker> savedStudyTrackers = Collections.synchronizedList(new ArrayList<>());
+        private final List<UserPrefs> savedUserPrefs = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingStorageStub(Path folder) {
+            super(new JsonStudyTrackerStorage(folder.resolve("studyTracker.json")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        }
+
+        @Override
+        public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+            savedStudyTrackers.add(new StudyTracker(studyTracker));
+        }
+
+        @Override
+        public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+            savedUserPrefs.add(new UserPrefs(userPrefs));
+        }
+    }
+}